@@ -0,0 +1,38 @@
+package com.couple.benchmark;
+
+import com.couple.schedule_meeting.util.GeoToGridConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 위경도 → 기상청 격자 변환 비용
+ */
+@State(Scope.Thread)
+public class GeoToGridConverterBenchmark {
+
+    private static final int POINT_COUNT = 1024;
+
+    private final double[] lats = new double[POINT_COUNT];
+    private final double[] lons = new double[POINT_COUNT];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 국내 좌표 범위에서 무작위 지점
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < POINT_COUNT; i++) {
+            lats[i] = random.nextDouble(33.0, 38.6);
+            lons[i] = random.nextDouble(124.6, 131.9);
+        }
+    }
+
+    @Benchmark
+    public GeoToGridConverter.Grid convert() {
+        int i = cursor++ & (POINT_COUNT - 1);
+        return GeoToGridConverter.convert(lats[i], lons[i]);
+    }
+}
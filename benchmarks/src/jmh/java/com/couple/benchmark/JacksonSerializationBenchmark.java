@@ -0,0 +1,119 @@
+package com.couple.benchmark;
+
+import com.couple.couple_chat.chat.dto.ChatMessageResponse;
+import com.couple.schedule_meeting.entity.TmpMeeting;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 응답과 임시 약속(tmp_meetings) 문서의 JSON 직렬화/역직렬화 비용
+ */
+@State(Scope.Benchmark)
+public class JacksonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ChatMessageResponse chatMessage;
+    private TmpMeeting tmpMeeting;
+    private byte[] chatMessageJson;
+    private byte[] tmpMeetingJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 30);
+        chatMessage = ChatMessageResponse.builder()
+                .id(UUID.randomUUID())
+                .coupleId(UUID.randomUUID())
+                .senderId(UUID.randomUUID())
+                .senderName("홍길동")
+                .message("오늘 저녁 뭐 먹을까? 성수동 쪽 새로 생긴 파스타집 가볼래?")
+                .messageType("TEXT")
+                .isRead(true)
+                .readAt(now.plusMinutes(1))
+                .createdAt(now)
+                .build();
+
+        // 시간대 3개 x 후보 5개, 경로는 Map 구조로 저장되는 실제 문서 형태
+        List<TmpMeeting.TimeSlot> timeSlots = new ArrayList<>();
+        for (int slot = 0; slot < 3; slot++) {
+            List<TmpMeeting.StoreCandidate> candidates = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                candidates.add(TmpMeeting.StoreCandidate.builder()
+                        .storeName("가게 " + slot + "-" + i)
+                        .score(0.9 - i * 0.05)
+                        .similarity(0.8 - i * 0.04)
+                        .description("분위기 좋은 데이트 장소, 주차 가능, 예약 필수")
+                        .build());
+            }
+            timeSlots.add(TmpMeeting.TimeSlot.builder()
+                    .slot(String.format("%02d:00-%02d:00", 12 + slot * 3, 15 + slot * 3))
+                    .topCandidates(candidates)
+                    .llmRecommendation(TmpMeeting.LlmRecommendation.builder()
+                            .selected("가게 " + slot + "-0")
+                            .reason("두 사람의 선호 키워드와 가장 잘 맞고 이동 거리가 짧습니다.")
+                            .build())
+                    .build());
+        }
+        List<Map<String, Object>> routes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            routes.add(Map.of(
+                    "from", "가게 " + i + "-0",
+                    "to", "가게 " + (i + 1) + "-0",
+                    "totalTime", 900 + i * 60,
+                    "totalDistance", 1200 + i * 100,
+                    "legs", List.of(Map.of("mode", "WALK", "sectionTime", 300, "distance", 400))));
+        }
+        tmpMeeting = TmpMeeting.builder()
+                .id("665a1f0c2b7e4a3d9c8b4567")
+                .name("주말 데이트")
+                .startTime("12:00")
+                .endTime("21:00")
+                .date("2025-06-01")
+                .keyword(List.of("파스타", "카페", "전시"))
+                .weather("맑음")
+                .currentLat("37.5446")
+                .currentLon("127.0557")
+                .results(TmpMeeting.MeetingResults.builder()
+                        .timeSlots(timeSlots)
+                        .routes(routes)
+                        .build())
+                .stores(List.of("가게 0-0", "가게 1-0", "가게 2-0"))
+                .build();
+
+        chatMessageJson = objectMapper.writeValueAsBytes(chatMessage);
+        tmpMeetingJson = objectMapper.writeValueAsBytes(tmpMeeting);
+    }
+
+    @Benchmark
+    public byte[] serializeChatMessage() throws Exception {
+        return objectMapper.writeValueAsBytes(chatMessage);
+    }
+
+    @Benchmark
+    public ChatMessageResponse deserializeChatMessage() throws Exception {
+        return objectMapper.readValue(chatMessageJson, ChatMessageResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeTmpMeeting() throws Exception {
+        return objectMapper.writeValueAsBytes(tmpMeeting);
+    }
+
+    @Benchmark
+    public TmpMeeting deserializeTmpMeeting() throws Exception {
+        return objectMapper.readValue(tmpMeetingJson, TmpMeeting.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.couple.benchmark;
+
+import com.couple.common.security.JwtPrincipal;
+import com.couple.common.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+
+/**
+ * 게이트웨이 요청 1건당 JWT 처리 비용
+ * - legacyPerRequest: 기존 필터 동작 (키/파서를 매번 생성하고 validate, userId, coupleId로 3회 검증)
+ * - parseOnce: 재사용 파서로 1회 검증
+ * - parseCached: 최근 검증 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHs256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000L);
+        token = jwtTokenProvider.generateToken(UUID.randomUUID(), UUID.randomUUID());
+        jwtTokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            blackhole.consume(claims.getSubject());
+            blackhole.consume(claims.get("coupleId", String.class));
+        }
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return jwtTokenProvider.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal parseCached() {
+        return jwtTokenProvider.parseToken(token);
+    }
+}
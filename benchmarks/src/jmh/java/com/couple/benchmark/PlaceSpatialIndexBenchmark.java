@@ -0,0 +1,57 @@
+package com.couple.benchmark;
+
+import com.couple.schedule_meeting.entity.Place;
+import com.couple.schedule_meeting.service.PlaceSpatialIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 장소 공간 인덱스 반경 검색 비용 (서울 일대 장소 20,000개, 반경 3km 상위 5개)
+ */
+@State(Scope.Benchmark)
+public class PlaceSpatialIndexBenchmark {
+
+    private static final int PLACE_COUNT = 20_000;
+
+    private PlaceSpatialIndex index;
+    private double[] queryLats;
+    private double[] queryLons;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        index = new PlaceSpatialIndex(null, new SimpleMeterRegistry(), 0.01);
+        Random random = new Random(42);
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            index.upsert(Place.builder()
+                    .id("place-" + i)
+                    .name("장소 " + i)
+                    .address("서울특별시")
+                    .rating(BigDecimal.valueOf(random.nextInt(50), 1))
+                    .code(i % 2 == 0 ? "P" : "F")
+                    .category("cafe")
+                    .latitude(BigDecimal.valueOf(37.45 + random.nextDouble() * 0.2))
+                    .longitude(BigDecimal.valueOf(126.85 + random.nextDouble() * 0.3))
+                    .build());
+        }
+        queryLats = new double[1024];
+        queryLons = new double[1024];
+        for (int i = 0; i < queryLats.length; i++) {
+            queryLats[i] = 37.45 + random.nextDouble() * 0.2;
+            queryLons[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+    }
+
+    @Benchmark
+    public List<Place> findTopNearby() {
+        int i = cursor++ & (queryLats.length - 1);
+        return index.findTopNearby("P", queryLats[i], queryLons[i], 3000, 5);
+    }
+}
@@ -0,0 +1,80 @@
+package com.couple.benchmark;
+
+import com.couple.question_answer.entity.UserVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 사용자 벡터(vec_1 ~ vec_50) 갱신 및 유사도 계산 비용
+ * 유사도는 현재 외부 추천 API에서 계산하므로, 서비스 내부로 옮길 경우의 기준값으로 맵 기반 코사인 유사도를 측정합니다.
+ */
+@State(Scope.Thread)
+public class UserVectorBenchmark {
+
+    private static final int DIMENSION = 50;
+
+    private final String[] keys = new String[DIMENSION];
+    private final double[] deltas = new double[DIMENSION];
+    private UserVector userVector;
+    private UserVector partnerVector;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < DIMENSION; i++) {
+            keys[i] = "vec_" + (i + 1);
+            deltas[i] = random.nextDouble() * 0.02 - 0.01;
+        }
+        userVector = UserVector.createInitialVector(UUID.randomUUID());
+        partnerVector = UserVector.createInitialVector(UUID.randomUUID());
+        for (String key : keys) {
+            partnerVector.updateVector(key, random.nextDouble() * 2 - 1);
+        }
+    }
+
+    /**
+     * 답변 1건 반영: 50개 키 검증 후 값 갱신
+     */
+    @Benchmark
+    public UserVector updateAll() {
+        for (int i = 0; i < DIMENSION; i++) {
+            String key = keys[i];
+            double next = userVector.getVectors().get(key) + deltas[i];
+            if (next > 1.0 || next < -1.0) {
+                next = 0.02;
+            }
+            if (userVector.isValidVectorKey(key) && userVector.isValidVectorValue(next)) {
+                userVector.updateVector(key, next);
+            }
+        }
+        return userVector;
+    }
+
+    @Benchmark
+    public double cosineSimilarity() {
+        return cosine(userVector.getVectors(), partnerVector.getVectors());
+    }
+
+    private static double cosine(Map<String, Double> a, Map<String, Double> b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (Map.Entry<String, Double> entry : a.entrySet()) {
+            double x = entry.getValue();
+            double y = b.getOrDefault(entry.getKey(), 0.0);
+            dot += x * y;
+            normA += x * x;
+            normB += y * y;
+        }
+        if (normA == 0 || normB == 0) {
+            return 0;
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+}
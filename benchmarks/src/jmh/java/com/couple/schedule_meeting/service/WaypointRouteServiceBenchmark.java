@@ -0,0 +1,52 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.SkTransitDetailedResponseDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * SK 대중교통 상세 경로 응답의 구간(leg) 변환 비용
+ * 도보-지하철-도보-버스-도보 5개 구간 응답(synthetic-sk-transit-detailed.json) 기준
+ * 입력은 SK 대중교통 API 응답 형식을 따라 직접 작성한 합성 데이터입니다. (실제 API에서 기록한 응답이 아님)
+ * 실제 응답은 passShape/steps 좌표 수가 더 많을 수 있으므로 절대값보다 변경 전후 비교에 사용합니다.
+ */
+@State(Scope.Benchmark)
+public class WaypointRouteServiceBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final WaypointRouteService waypointRouteService = new WaypointRouteService(null);
+    private byte[] rawJson;
+    private List<SkTransitDetailedResponseDto.DetailedLeg> legs;
+
+    @Setup
+    public void setUp() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/synthetic-sk-transit-detailed.json")) {
+            rawJson = in.readAllBytes();
+        }
+        legs = objectMapper.readValue(rawJson, SkTransitDetailedResponseDto.class)
+                .getMetaData().getPlan().getItineraries().get(0).getLegs();
+    }
+
+    @Benchmark
+    public List<Object> convertDetailedLegs() {
+        return waypointRouteService.convertDetailedLegs(legs);
+    }
+
+    /**
+     * 응답 역직렬화 + 변환 (구간 1건 처리 경로)
+     */
+    @Benchmark
+    public List<Object> deserializeAndConvert() throws Exception {
+        SkTransitDetailedResponseDto response = objectMapper.readValue(rawJson, SkTransitDetailedResponseDto.class);
+        return waypointRouteService.convertDetailedLegs(
+                response.getMetaData().getPlan().getItineraries().get(0).getLegs());
+    }
+}
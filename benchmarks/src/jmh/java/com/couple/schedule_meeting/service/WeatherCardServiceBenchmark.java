@@ -0,0 +1,76 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.common.resilience.ResilienceRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기상청 단기예보 응답(1000건, synthetic-kma-vilage-fcst.json) 집계 비용
+ * 입력은 단기예보 응답 형식에 맞춰 생성한 합성 데이터입니다. (실제 API에서 기록한 응답이 아님)
+ * - treeBaseline: 기존 방식 (readTree 후 JsonNode 순회, 행마다 LocalDate.parse)
+ * - streaming: 토큰 단위 파서로 PTY/SKY만 집계
+ * 할당량 비교는 -prof gc 옵션으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+public class WeatherCardServiceBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeatherCardService weatherCardService = new WeatherCardService(new SimpleMeterRegistry(),
+            new ResilienceRegistry(new SimpleMeterRegistry(), new StandardEnvironment()));
+    private final LocalDate today = LocalDate.of(2025, 6, 1);
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/synthetic-kma-vilage-fcst.json")) {
+            payload = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public List<WeatherCardService.WeatherCardResponse> streaming() throws Exception {
+        return weatherCardService.summarizeForecast(new ByteArrayInputStream(payload), today);
+    }
+
+    @Benchmark
+    public List<WeatherCardService.WeatherCardResponse> treeBaseline() throws Exception {
+        String json = new String(payload, StandardCharsets.UTF_8);
+        JsonNode items = objectMapper.readTree(json).path("response").path("body").path("items").path("item");
+
+        Map<String, WeatherCardService.DailySimpleSummary> summaries = new HashMap<>();
+        for (JsonNode item : items) {
+            String date = item.get("fcstDate").asText();
+            String category = item.get("category").asText();
+            String value = item.get("fcstValue").asText();
+
+            LocalDate itemDate = LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+            if (itemDate.isAfter(today.plusDays(4)) || itemDate.isBefore(today)) {
+                continue;
+            }
+            summaries.putIfAbsent(date, new WeatherCardService.DailySimpleSummary(date));
+            summaries.get(date).update(category, value);
+        }
+
+        List<WeatherCardService.WeatherCardResponse> result = new ArrayList<>();
+        summaries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> result.add(new WeatherCardService.WeatherCardResponse(e.getKey(), e.getValue().classifyWeather())));
+        return result;
+    }
+}
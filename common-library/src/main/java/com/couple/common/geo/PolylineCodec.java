@@ -0,0 +1,153 @@
+package com.couple.common.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Encoded Polyline 알고리즘 기반 델타 인코딩/디코딩
+ * - 값마다 이전 값과의 차이만 가변 길이 ASCII로 기록합니다.
+ * - 좌표는 위도, 경도 순으로 10^precision 배한 정수로 반올림해 기록합니다. (기본 정밀도 5자리, SK 경로 좌표는 6자리)
+ * - 정수 값 목록(예: 초 단위 시각)도 같은 방식으로 기록할 수 있습니다.
+ */
+public final class PolylineCodec {
+
+    public static final int DEFAULT_PRECISION = 5;
+    private static final int MAX_PRECISION = 9;
+
+    private PolylineCodec() {
+    }
+
+    /**
+     * 좌표 목록을 기본 정밀도(1e-5도)로 인코딩
+     */
+    public static <T> String encodeCoordinates(List<T> points,
+                                               ToDoubleFunction<T> latitude,
+                                               ToDoubleFunction<T> longitude) {
+        return encodeCoordinates(points, latitude, longitude, DEFAULT_PRECISION);
+    }
+
+    /**
+     * 좌표 목록을 소수점 precision자리 정밀도로 인코딩
+     */
+    public static <T> String encodeCoordinates(List<T> points,
+                                               ToDoubleFunction<T> latitude,
+                                               ToDoubleFunction<T> longitude,
+                                               int precision) {
+        double scale = scale(precision);
+        StringBuilder encoded = new StringBuilder(points.size() * 8);
+        long previousLat = 0;
+        long previousLon = 0;
+        for (T point : points) {
+            long lat = Math.round(latitude.applyAsDouble(point) * scale);
+            long lon = Math.round(longitude.applyAsDouble(point) * scale);
+            encodeValue(lat - previousLat, encoded);
+            encodeValue(lon - previousLon, encoded);
+            previousLat = lat;
+            previousLon = lon;
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * 좌표를 10^precision 배한 정수로 복원 (부동소수점 오차 없이 원래 자릿수로 다시 쓸 때 사용)
+     *
+     * @return [위도0, 경도0, 위도1, 경도1, ...]
+     */
+    public static long[] decodeScaledCoordinates(String encoded) {
+        long[] values = decodeValues(encoded);
+        if (values.length % 2 != 0) {
+            throw new IllegalArgumentException("위도/경도 쌍이 맞지 않는 polyline입니다");
+        }
+        for (int i = 2; i < values.length; i++) {
+            values[i] += values[i - 2];
+        }
+        return values;
+    }
+
+    /**
+     * 좌표 목록으로 복원
+     *
+     * @return [위도, 경도] 목록
+     */
+    public static List<double[]> decodeCoordinates(String encoded, int precision) {
+        double scale = scale(precision);
+        long[] values = decodeScaledCoordinates(encoded);
+        List<double[]> points = new ArrayList<>(values.length / 2);
+        for (int i = 0; i < values.length; i += 2) {
+            points.add(new double[]{values[i] / scale, values[i + 1] / scale});
+        }
+        return points;
+    }
+
+    /**
+     * 정수 값 목록을 델타 인코딩
+     */
+    public static <T> String encodeDeltas(List<T> values, ToLongFunction<T> getter) {
+        StringBuilder encoded = new StringBuilder(values.size() * 2);
+        long previous = 0;
+        for (T value : values) {
+            long current = getter.applyAsLong(value);
+            encodeValue(current - previous, encoded);
+            previous = current;
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * encodeDeltas 결과를 원래 정수 값 목록으로 복원
+     */
+    public static long[] decodeDeltas(String encoded) {
+        long[] values = decodeValues(encoded);
+        for (int i = 1; i < values.length; i++) {
+            values[i] += values[i - 1];
+        }
+        return values;
+    }
+
+    private static void encodeValue(long value, StringBuilder encoded) {
+        long shifted = value < 0 ? ~(value << 1) : value << 1;
+        while (shifted >= 0x20) {
+            encoded.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+            shifted >>= 5;
+        }
+        encoded.append((char) (shifted + 63));
+    }
+
+    // 기록된 차이 값 그대로 (누적 전)
+    private static long[] decodeValues(String encoded) {
+        long[] values = new long[Math.max(4, encoded.length() / 2)];
+        int count = 0;
+        int index = 0;
+        while (index < encoded.length()) {
+            long result = 0;
+            int shift = 0;
+            int chunk;
+            do {
+                if (index >= encoded.length() || shift > 60) {
+                    throw new IllegalArgumentException("잘린 polyline입니다: index=" + index);
+                }
+                chunk = encoded.charAt(index++) - 63;
+                if (chunk < 0 || chunk > 0x3f) {
+                    throw new IllegalArgumentException("polyline에 쓸 수 없는 문자입니다: index=" + (index - 1));
+                }
+                result |= (long) (chunk & 0x1f) << shift;
+                shift += 5;
+            } while (chunk >= 0x20);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static double scale(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("지원하지 않는 polyline 정밀도입니다: " + precision);
+        }
+        return Math.pow(10, precision);
+    }
+}
@@ -0,0 +1,102 @@
+package com.couple.common.http;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 WebClient 생성 (upstream마다 별도 커넥션 풀)
+ * - 연결 유지(keep-alive), 유휴/수명 초과 연결 백그라운드 정리, gzip 응답 압축, https upstream은 HTTP/2 협상(ALPN, 실패 시 HTTP/1.1)
+ * - 코덱은 Spring Boot의 WebClient.Builder 설정(ObjectMapper, http.client.requests 관측)을 공유하고 메모리 버퍼 크기를 제한합니다.
+ * - 지표: reactor.netty.connection.provider.* (풀 상태, name=http-{이름}), reactor.netty.http.client.* (연결/TLS/응답 시간, uri=이름)
+ * - 설정: http.client.{이름}.* 항목이 없으면 http.client.default.*, 그것도 없으면 아래 기본값을 사용합니다.
+ *   max-connections(50), pending-acquire-timeout-ms(5000), max-idle-time-ms(30000), max-life-time-ms(300000),
+ *   evict-interval-ms(30000), connect-timeout-ms(3000), response-timeout-ms(10000), http2(https면 true),
+ *   http.client.max-in-memory-size(4MB)
+ */
+@Slf4j
+public class WebClientFactory implements DisposableBean {
+
+    private static final String PREFIX = "http.client.";
+
+    private final WebClient.Builder baseBuilder;
+    private final Environment environment;
+    private final int maxInMemorySize;
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public WebClientFactory(WebClient.Builder baseBuilder, Environment environment) {
+        this.baseBuilder = baseBuilder;
+        this.environment = environment;
+        this.maxInMemorySize = (int) environment.getProperty(PREFIX + "max-in-memory-size", DataSize.class,
+                DataSize.ofMegabytes(4)).toBytes();
+    }
+
+    /**
+     * 절대 URL로만 호출하는 클라이언트
+     */
+    public WebClient create(String name) {
+        return create(name, null);
+    }
+
+    /**
+     * @param name    커넥션 풀/설정/지표 이름 (같은 이름이면 커넥션 풀을 공유)
+     * @param baseUrl 기본 URL, 없으면 null
+     */
+    public WebClient create(String name, String baseUrl) {
+        ConnectionProvider connectionProvider = connectionProviders.computeIfAbsent(name, this::newConnectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, setting(name, "connect-timeout-ms", Integer.class, 3000))
+                .responseTimeout(Duration.ofMillis(setting(name, "response-timeout-ms", Long.class, 10000L)))
+                // 경로별 태그는 http.client.requests에 있으므로 여기서는 이름만 태그로 사용 (카디널리티 제한)
+                .metrics(true, uri -> name);
+        boolean http2 = setting(name, "http2", Boolean.class, baseUrl != null && baseUrl.startsWith("https://"));
+        if (http2) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        WebClient.Builder builder = baseBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize));
+        if (baseUrl != null) {
+            builder.baseUrl(baseUrl);
+        }
+        log.info("WebClient 생성: {} (baseUrl={}, http2={})", name, baseUrl, http2);
+        return builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider newConnectionProvider(String name) {
+        return ConnectionProvider.builder("http-" + name)
+                .maxConnections(setting(name, "max-connections", Integer.class, 50))
+                .pendingAcquireTimeout(Duration.ofMillis(setting(name, "pending-acquire-timeout-ms", Long.class, 5000L)))
+                // 로드밸런서/서버의 유휴 연결 종료(보통 60초)보다 먼저 정리해 끊긴 연결 재사용을 방지
+                .maxIdleTime(Duration.ofMillis(setting(name, "max-idle-time-ms", Long.class, 30000L)))
+                .maxLifeTime(Duration.ofMillis(setting(name, "max-life-time-ms", Long.class, 300000L)))
+                .evictInBackground(Duration.ofMillis(setting(name, "evict-interval-ms", Long.class, 30000L)))
+                .metrics(true)
+                .build();
+    }
+
+    private <T> T setting(String name, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PREFIX + name + "." + key, type);
+        return value != null ? value : environment.getProperty(PREFIX + "default." + key, type, defaultValue);
+    }
+}
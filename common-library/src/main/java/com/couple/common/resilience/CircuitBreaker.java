@@ -0,0 +1,150 @@
+package com.couple.common.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 건수 기반 회로 차단기
+ * - CLOSED: 최근 slidingWindowSize건의 성공/실패를 기록하고, minimumCalls건 이상에서 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 거절한 뒤 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출을 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 상태가 바뀔 때마다 세대(generation)를 올리고, 호출은 허용된 세대와 함께 결과를 알립니다.
+ * 다른 세대에 허용된 호출의 결과(예: CLOSED에서 시작해 HALF_OPEN 중에 끝난 호출)는 무시합니다.
+ * 외부 API 호출 시간에 비해 상태 변경 비용이 작으므로 단순히 synchronized로 보호합니다.
+ */
+class CircuitBreaker {
+
+    // tryAcquire가 호출을 거절한 경우
+    static final long REJECTED = -1;
+
+    enum State {
+        CLOSED(0),
+        HALF_OPEN(1),
+        OPEN(2);
+
+        final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (true = 실패) 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(ResiliencePolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    CircuitBreaker(ResiliencePolicy policy, LongSupplier nanoClock) {
+        this.failureRateThreshold = policy.getFailureRateThreshold();
+        this.minimumCalls = Math.max(1, policy.getMinimumCalls());
+        this.openNanos = policy.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, policy.getHalfOpenCalls());
+        this.window = new boolean[Math.max(this.minimumCalls, policy.getSlidingWindowSize())];
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 받은 세대와 함께 onResult로 결과를 알려야 합니다)
+     *
+     * @return 호출을 허용한 세대, 거절하면 REJECTED
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenPermitted++;
+        }
+        return generation;
+    }
+
+    synchronized void onResult(long admittedGeneration, boolean failed) {
+        // 이전 상태에서 허용된 호출은 현재 상태의 판단에 반영하지 않음
+        if (admittedGeneration != generation) {
+            return;
+        }
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed) {
+                    open();
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                record(failed);
+                if (recordedCalls >= minimumCalls && failedCalls * 100.0 / recordedCalls >= failureRateThreshold) {
+                    open();
+                }
+            }
+            // OPEN에서는 허용하는 호출이 없음
+            case OPEN -> {
+            }
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    Duration getOpenDuration() {
+        return Duration.ofNanos(openNanos);
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        transitionTo(State.OPEN);
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        transitionTo(State.CLOSED);
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+    }
+}
@@ -0,0 +1,32 @@
+package com.couple.common.resilience;
+
+import lombok.Getter;
+
+/**
+ * 외부 의존성 호출이 응답 전에 중단된 경우 (시간 초과, 동시 호출 수 초과, 회로 차단)
+ */
+@Getter
+public class ResilienceException extends RuntimeException {
+
+    public enum Reason {
+        TIMEOUT,
+        BULKHEAD_FULL,
+        CIRCUIT_OPEN
+    }
+
+    private final String dependency;
+    private final Reason reason;
+
+    public ResilienceException(String dependency, Reason reason, String message) {
+        super(message);
+        this.dependency = dependency;
+        this.reason = reason;
+    }
+
+    /**
+     * 호출 자체가 거절되었는지 (외부 API로 요청이 나가지 않음)
+     */
+    public boolean isRejected() {
+        return reason != Reason.TIMEOUT;
+    }
+}
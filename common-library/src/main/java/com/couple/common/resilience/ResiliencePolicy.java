@@ -0,0 +1,68 @@
+package com.couple.common.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 외부 의존성 호출 정책
+ * - timeout: 호출 한 건의 최대 대기 시간 (헤지 호출 포함 전체 기준)
+ * - maxConcurrentCalls: 동시 호출 수 (bulkhead), 초과 시 대기하지 않고 바로 거절
+ * - failureRateThreshold / slidingWindowSize / minimumCalls: 최근 N건 중 실패율이 임계값 이상이면 회로 차단
+ * - openDuration / halfOpenCalls: 차단 유지 시간과, 이후 시험 호출 수
+ * - hedgeDelay: 멱등 조회에서 이 시간 안에 응답이 없으면 같은 요청을 한 번 더 보냄 (null이면 사용 안 함)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ResiliencePolicy {
+
+    @Builder.Default
+    private final Duration timeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final int maxConcurrentCalls = 20;
+
+    // 퍼센트 (0~100)
+    @Builder.Default
+    private final double failureRateThreshold = 50;
+
+    @Builder.Default
+    private final int slidingWindowSize = 20;
+
+    @Builder.Default
+    private final int minimumCalls = 10;
+
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final int halfOpenCalls = 3;
+
+    private final Duration hedgeDelay;
+
+    public static ResiliencePolicy defaults() {
+        return ResiliencePolicy.builder().build();
+    }
+
+    /**
+     * resilience.{name}.* 설정으로 기본값을 덮어쓴 정책
+     * 예) resilience.sk-transit.timeout-ms=3000, resilience.kakao-local.hedge-delay-ms=0 (0이면 헤지 끔)
+     */
+    public ResiliencePolicy overriddenBy(Environment environment, String name) {
+        String prefix = "resilience." + name + ".";
+        Long hedgeDelayMs = environment.getProperty(prefix + "hedge-delay-ms", Long.class,
+                hedgeDelay != null ? hedgeDelay.toMillis() : 0L);
+        return toBuilder()
+                .timeout(Duration.ofMillis(environment.getProperty(prefix + "timeout-ms", Long.class, timeout.toMillis())))
+                .maxConcurrentCalls(environment.getProperty(prefix + "max-concurrent-calls", Integer.class, maxConcurrentCalls))
+                .failureRateThreshold(environment.getProperty(prefix + "failure-rate-threshold", Double.class, failureRateThreshold))
+                .slidingWindowSize(environment.getProperty(prefix + "sliding-window-size", Integer.class, slidingWindowSize))
+                .minimumCalls(environment.getProperty(prefix + "minimum-calls", Integer.class, minimumCalls))
+                .openDuration(Duration.ofMillis(environment.getProperty(prefix + "open-duration-ms", Long.class, openDuration.toMillis())))
+                .halfOpenCalls(environment.getProperty(prefix + "half-open-calls", Integer.class, halfOpenCalls))
+                .hedgeDelay(hedgeDelayMs > 0 ? Duration.ofMillis(hedgeDelayMs) : null)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.couple.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 외부 의존성 정책 모음
+ * 서비스별 설정 클래스에서 빈으로 등록하고 기본 정책을 register로 지정합니다.
+ * 각 정책은 resilience.{name}.* 설정으로 덮어쓸 수 있습니다. (ResiliencePolicy#overriddenBy)
+ */
+@Slf4j
+public class ResilienceRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Map<String, ResilientDependency> dependencies = new ConcurrentHashMap<>();
+
+    public ResilienceRegistry(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    /**
+     * 기본 정책으로 의존성 등록 (이미 등록된 이름이면 기존 것을 반환)
+     */
+    public ResilientDependency register(String name, ResiliencePolicy defaultPolicy) {
+        return dependencies.computeIfAbsent(name, key -> {
+            ResiliencePolicy policy = defaultPolicy.overriddenBy(environment, key);
+            log.info("외부 의존성 정책 등록: {} (timeout={}ms, maxConcurrentCalls={}, hedgeDelay={})",
+                    key, policy.getTimeout().toMillis(), policy.getMaxConcurrentCalls(), policy.getHedgeDelay());
+            return new ResilientDependency(key, policy, meterRegistry);
+        });
+    }
+
+    /**
+     * 이름으로 의존성 조회, 등록되지 않은 이름은 공통 기본 정책으로 등록합니다.
+     */
+    public ResilientDependency get(String name) {
+        ResilientDependency dependency = dependencies.get(name);
+        return dependency != null ? dependency : register(name, ResiliencePolicy.defaults());
+    }
+}
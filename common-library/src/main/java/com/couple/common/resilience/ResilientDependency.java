@@ -0,0 +1,252 @@
+package com.couple.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성 하나에 대한 시간 제한 + bulkhead + 회로 차단 + (선택) 헤지 호출
+ * - 호출은 CompletableFuture로 전달받습니다. WebClient는 Mono#toFuture()로 넘기면 시간 초과/헤지 패배 시 구독이 취소됩니다.
+ * - fallback이 있으면 실패(거절 포함) 시 fallback 결과를 반환하고, 없으면 예외를 그대로 전달합니다.
+ * - 지표: external.call (dependency, outcome=success|failure|timeout), external.call.rejected (dependency, reason),
+ *   external.call.hedged, external.call.fallback, external.circuit.state (0 닫힘, 1 시험, 2 차단), external.bulkhead.available
+ */
+@Slf4j
+public class ResilientDependency {
+
+    // 시간 초과/헤지 예약 전용 타이머 (호출이 끝나면 예약을 취소하고, 예약 작업은 공용 풀에서 실행)
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final ResiliencePolicy policy;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer timeoutTimer;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+    private final Counter hedgedCalls;
+    private final Counter fallbackCalls;
+
+    ResilientDependency(String name, ResiliencePolicy policy, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.policy = policy;
+        this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(policy);
+
+        this.successTimer = callTimer(meterRegistry, "success");
+        this.failureTimer = callTimer(meterRegistry, "failure");
+        this.timeoutTimer = callTimer(meterRegistry, "timeout");
+        this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+        this.circuitRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.hedgedCalls = Counter.builder("external.call.hedged")
+                .tag("dependency", name)
+                .description("응답 지연으로 추가 전송한 헤지 요청 수")
+                .register(meterRegistry);
+        this.fallbackCalls = Counter.builder("external.call.fallback")
+                .tag("dependency", name)
+                .description("실패/거절로 fallback을 반환한 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("external.circuit.state", circuitBreaker, breaker -> breaker.getState().gaugeValue)
+                .tag("dependency", name)
+                .description("회로 상태 (0 닫힘, 1 시험, 2 차단)")
+                .register(meterRegistry);
+        Gauge.builder("external.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("dependency", name)
+                .description("남은 동시 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 (헤지 없음)
+     *
+     * @param fallback 실패/거절 시 반환할 값, null이면 예외 전달
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call, Function<Throwable, T> fallback) {
+        return withFallback(run(call, false), fallback);
+    }
+
+    /**
+     * 멱등 조회 호출, 정책에 hedgeDelay가 있으면 응답 지연 시 같은 요청을 한 번 더 보내 먼저 온 성공 응답을 사용합니다.
+     */
+    public <T> CompletableFuture<T> executeIdempotentAsync(Supplier<CompletableFuture<T>> call, Function<Throwable, T> fallback) {
+        return withFallback(run(call, policy.getHedgeDelay() != null), fallback);
+    }
+
+    /**
+     * executeAsync의 동기 버전
+     */
+    public <T> T execute(Supplier<CompletableFuture<T>> call, Function<Throwable, T> fallback) {
+        return join(executeAsync(call, fallback));
+    }
+
+    /**
+     * executeIdempotentAsync의 동기 버전
+     */
+    public <T> T executeIdempotent(Supplier<CompletableFuture<T>> call, Function<Throwable, T> fallback) {
+        return join(executeIdempotentAsync(call, fallback));
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> call, boolean hedge) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            return CompletableFuture.failedFuture(new ResilienceException(name, ResilienceException.Reason.BULKHEAD_FULL,
+                    name + " 동시 호출 수 초과 (" + policy.getMaxConcurrentCalls() + ")"));
+        }
+        long admittedGeneration = circuitBreaker.tryAcquire();
+        if (admittedGeneration == CircuitBreaker.REJECTED) {
+            bulkhead.release();
+            circuitRejections.increment();
+            return CompletableFuture.failedFuture(new ResilienceException(name, ResilienceException.Reason.CIRCUIT_OPEN,
+                    name + " 회로 차단 중"));
+        }
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        launch(call, result, attempts, pendingAttempts);
+
+        ScheduledFuture<?> hedgeTask = !hedge ? null : schedule(policy.getHedgeDelay(), () -> {
+            // 헤지 요청도 bulkhead 자리를 차지하며, 자리가 없으면 보내지 않음
+            if (!result.isDone() && bulkhead.tryAcquire()) {
+                pendingAttempts.incrementAndGet();
+                hedgedCalls.increment();
+                log.debug("{} 응답 지연으로 헤지 요청 전송", name);
+                launch(call, result, attempts, pendingAttempts);
+            }
+        });
+        ScheduledFuture<?> timeoutTask = schedule(policy.getTimeout(), () -> result.completeExceptionally(
+                new ResilienceException(name, ResilienceException.Reason.TIMEOUT,
+                        name + " 응답 시간 초과 (" + policy.getTimeout().toMillis() + "ms)")));
+
+        // 호출자에게는 정리(취소, bulkhead 반환, 기록)가 끝난 뒤 결과를 전달
+        return result.whenComplete((value, error) -> {
+            timeoutTask.cancel(false);
+            if (hedgeTask != null) {
+                hedgeTask.cancel(false);
+            }
+            // 먼저 끝난 결과 외의 진행 중인 요청은 취소
+            attempts.forEach(attempt -> attempt.cancel(true));
+            long elapsed = System.nanoTime() - startNanos;
+            if (error == null) {
+                successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            } else if (error instanceof ResilienceException) {
+                timeoutTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                failureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            boolean wasOpen = circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+            circuitBreaker.onResult(admittedGeneration, error != null);
+            if (!wasOpen && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                log.warn("{} 회로 차단: {} 동안 호출을 거절합니다", name, circuitBreaker.getOpenDuration());
+            }
+        });
+    }
+
+    private <T> void launch(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result,
+                            List<CompletableFuture<T>> attempts, AtomicInteger pendingAttempts) {
+        CompletableFuture<T> attempt;
+        try {
+            attempt = Objects.requireNonNull(call.get(), "호출 결과 future가 null입니다");
+        } catch (Throwable e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        attempts.add(attempt);
+        attempt.whenComplete((value, error) -> {
+            bulkhead.release();
+            if (error == null) {
+                result.complete(value);
+            } else if (pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+        if (result.isDone()) {
+            attempt.cancel(true);
+        }
+    }
+
+    private static ScheduledFuture<?> schedule(Duration delay, Runnable task) {
+        return TIMER.schedule(() -> ForkJoinPool.commonPool().execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "resilience-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private <T> CompletableFuture<T> withFallback(CompletableFuture<T> future, Function<Throwable, T> fallback) {
+        if (fallback == null) {
+            return future;
+        }
+        return future.exceptionally(error -> {
+            Throwable cause = unwrap(error);
+            fallbackCalls.increment();
+            log.warn("{} 호출 실패, fallback 사용: {}", name, cause.getMessage());
+            return fallback.apply(cause);
+        });
+    }
+
+    private Timer callTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("external.call")
+                .tag("dependency", name)
+                .tag("outcome", outcome)
+                .description("외부 API 호출 지연 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("external.call.rejected")
+                .tag("dependency", name)
+                .tag("reason", reason)
+                .description("외부 API로 보내지 않고 거절한 호출 수")
+                .register(meterRegistry);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
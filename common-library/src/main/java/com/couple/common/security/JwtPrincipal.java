@@ -0,0 +1,14 @@
+package com.couple.common.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검증된 JWT에서 꺼낸 인증 주체 정보
+ *
+ * @param userId    토큰 subject
+ * @param coupleId  커플이 없으면 null
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(UUID userId, UUID coupleId, Instant expiresAt) {
+}
@@ -1,5 +1,8 @@
 package com.couple.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -7,7 +10,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -20,8 +26,83 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}")
     private long jwtExpiration;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize = 10000;
+
+    // 설정 주입 이후 최초 사용 시 한 번만 생성 (new로 생성된 경우에도 동작하도록 지연 초기화)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+    private volatile Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtTokenProvider() {
+    }
+
+    public JwtTokenProvider(String jwtSecret, long jwtExpiration) {
+        this.jwtSecret = jwtSecret;
+        this.jwtExpiration = jwtExpiration;
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null) {
+                    key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+                    signingKey = key;
+                }
+            }
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            synchronized (this) {
+                parser = jwtParser;
+                if (parser == null) {
+                    parser = Jwts.parser().verifyWith(getSigningKey()).build();
+                    jwtParser = parser;
+                }
+            }
+        }
+        return parser;
+    }
+
+    private Cache<String, JwtPrincipal> getVerifiedTokens() {
+        Cache<String, JwtPrincipal> cache = verifiedTokens;
+        if (cache == null) {
+            synchronized (this) {
+                cache = verifiedTokens;
+                if (cache == null) {
+                    // 항목은 토큰 만료 시각에 함께 만료되어 만료된 토큰이 캐시로 통과하지 않음
+                    cache = Caffeine.newBuilder()
+                            .maximumSize(verifiedCacheMaxSize)
+                            .expireAfter(new Expiry<String, JwtPrincipal>() {
+                                @Override
+                                public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+                                    return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                                }
+
+                                @Override
+                                public long expireAfterUpdate(String token, JwtPrincipal principal,
+                                                              long currentTime, long currentDuration) {
+                                    return expireAfterCreate(token, principal, currentTime);
+                                }
+
+                                @Override
+                                public long expireAfterRead(String token, JwtPrincipal principal,
+                                                            long currentTime, long currentDuration) {
+                                    return currentDuration;
+                                }
+                            })
+                            .build();
+                    verifiedTokens = cache;
+                }
+            }
+        }
+        return cache;
     }
 
     public String generateToken(UUID userId, UUID coupleId) {
@@ -49,31 +130,66 @@ public class JwtTokenProvider {
     }
 
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return UUID.fromString(claims.getSubject());
-    }
+    /**
+     * 토큰을 한 번만 검증/파싱해 인증 주체 반환
+     * 최근 검증한 토큰은 캐시에서 바로 반환하며, 토큰 문자열 전체가 일치해야 캐시가 적중합니다.
+     *
+     * @throws JwtException             서명 불일치, 만료, 만료 시각(exp)/subject 누락 등 유효하지 않은 토큰
+     * @throws IllegalArgumentException 비어 있거나 형식이 잘못된 토큰
+     */
+    public JwtPrincipal parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다");
+        }
+        Cache<String, JwtPrincipal> cache = getVerifiedTokens();
+        JwtPrincipal cached = cache.getIfPresent(token);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
 
-    public UUID getCoupleIdFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
+        // 만료 없는 토큰은 캐시 만료 시각도 정할 수 없으므로 거부
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("JWT 토큰에 만료 시각(exp)이 없습니다");
+        }
+        if (claims.getSubject() == null) {
+            throw new MalformedJwtException("JWT 토큰에 subject가 없습니다");
+        }
         String coupleIdStr = claims.get("coupleId", String.class);
-        return coupleIdStr != null && !coupleIdStr.equals("null") ? UUID.fromString(coupleIdStr) : null;
+        JwtPrincipal principal = new JwtPrincipal(
+                UUID.fromString(claims.getSubject()),
+                coupleIdStr != null && !coupleIdStr.equals("null") ? UUID.fromString(coupleIdStr) : null,
+                claims.getExpiration().toInstant());
+        cache.put(token, principal);
+        return principal;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 유효한 토큰이면 인증 주체, 아니면 empty
+     */
+    public Optional<JwtPrincipal> resolvePrincipal(String token) {
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-            return true;
+            return Optional.of(parseToken(token));
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    public UUID getUserIdFromToken(String token) {
+        return parseToken(token).userId();
+    }
+
+    public UUID getCoupleIdFromToken(String token) {
+        return parseToken(token).coupleId();
+    }
+
+    public boolean validateToken(String token) {
+        return resolvePrincipal(token).isPresent();
+    }
+}
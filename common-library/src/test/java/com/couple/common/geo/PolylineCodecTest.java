@@ -0,0 +1,119 @@
+package com.couple.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolylineCodecTest {
+
+    // Encoded Polyline 알고리즘 문서의 예시 좌표
+    private static final List<double[]> REFERENCE_POINTS = List.of(
+            new double[]{38.5, -120.2},
+            new double[]{40.7, -120.95},
+            new double[]{43.252, -126.453});
+    private static final String REFERENCE_POLYLINE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    void encodesReferenceExample() {
+        assertEquals(REFERENCE_POLYLINE, encode(REFERENCE_POINTS, PolylineCodec.DEFAULT_PRECISION));
+    }
+
+    @Test
+    void decodesReferenceExample() {
+        List<double[]> decoded = PolylineCodec.decodeCoordinates(REFERENCE_POLYLINE, PolylineCodec.DEFAULT_PRECISION);
+
+        assertEquals(REFERENCE_POINTS.size(), decoded.size());
+        for (int i = 0; i < decoded.size(); i++) {
+            assertArrayEquals(REFERENCE_POINTS.get(i), decoded.get(i), 1e-9);
+        }
+    }
+
+    @Test
+    void roundTripsNegativeAndExtremeCoordinatesExactlyAtSixDigits() {
+        List<double[]> points = List.of(
+                new double[]{37.566535, 126.977969},
+                new double[]{-33.868820, 151.209296},
+                new double[]{-90.0, -180.0},
+                new double[]{90.0, 180.0},
+                new double[]{0.000001, -0.000001},
+                new double[]{0.0, 0.0});
+
+        long[] scaled = PolylineCodec.decodeScaledCoordinates(encode(points, 6));
+
+        assertArrayEquals(new long[]{
+                37_566_535, 126_977_969,
+                -33_868_820, 151_209_296,
+                -90_000_000, -180_000_000,
+                90_000_000, 180_000_000,
+                1, -1,
+                0, 0}, scaled);
+    }
+
+    @Test
+    void decodedCoordinatesStayWithinHalfUnitOfPrecision() {
+        List<double[]> points = List.of(
+                new double[]{37.5665351, 126.9779694},
+                new double[]{37.5665349, -126.9779696},
+                new double[]{-0.0000049, 0.0000051},
+                new double[]{-12.3456789, 98.7654321});
+
+        List<double[]> decoded = PolylineCodec.decodeCoordinates(encode(points, 5), 5);
+
+        for (int i = 0; i < points.size(); i++) {
+            for (int axis = 0; axis < 2; axis++) {
+                double error = Math.abs(points.get(i)[axis] - decoded.get(i)[axis]);
+                assertTrue(error <= 0.5e-5 + 1e-12, "point " + i + " axis " + axis + " error " + error);
+            }
+        }
+    }
+
+    @Test
+    void valuesBelowPrecisionEncodeIdentically() {
+        String base = encode(List.of(new double[]{37.123451, 127.123451}), 5);
+        String nudged = encode(List.of(new double[]{37.123454, 127.123449}), 5);
+
+        assertEquals(base, nudged);
+        assertEquals(base, encode(List.of(new double[]{37.12345, 127.12345}), 5));
+    }
+
+    @Test
+    void roundTripsDeltasIncludingNegativeAndLargeValues() {
+        List<Long> values = List.of(0L, 5L, 3L, -17L, 1_000_000_000_000L, -1_000_000_000_000L, 42L);
+
+        long[] decoded = PolylineCodec.decodeDeltas(PolylineCodec.encodeDeltas(values, Long::longValue));
+
+        assertArrayEquals(values.stream().mapToLong(Long::longValue).toArray(), decoded);
+    }
+
+    @Test
+    void emptyInputRoundTrips() {
+        assertEquals("", encode(List.of(), 6));
+        assertEquals(0, PolylineCodec.decodeScaledCoordinates("").length);
+        assertEquals(0, PolylineCodec.decodeDeltas("").length);
+    }
+
+    @Test
+    void rejectsMalformedPolyline() {
+        String truncated = REFERENCE_POLYLINE.substring(0, 3);
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decodeScaledCoordinates(truncated));
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decodeDeltas("ab c"));
+        // 값 하나만 있는 문자열은 위도/경도 쌍이 아님
+        assertThrows(IllegalArgumentException.class,
+                () -> PolylineCodec.decodeScaledCoordinates(PolylineCodec.encodeDeltas(List.of(1L), Long::longValue)));
+    }
+
+    @Test
+    void rejectsUnsupportedPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> encode(REFERENCE_POINTS, -1));
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decodeCoordinates(REFERENCE_POLYLINE, 10));
+    }
+
+    private static String encode(List<double[]> points, int precision) {
+        return PolylineCodec.encodeCoordinates(points, point -> point[0], point -> point[1], precision);
+    }
+}
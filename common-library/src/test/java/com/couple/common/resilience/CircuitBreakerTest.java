@@ -0,0 +1,140 @@
+package com.couple.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(ResiliencePolicy.builder()
+            .failureRateThreshold(50)
+            .slidingWindowSize(4)
+            .minimumCalls(4)
+            .openDuration(Duration.ofSeconds(10))
+            .halfOpenCalls(2)
+            .build(), clock::get);
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        record(true);
+        record(true);
+        record(true);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        record(false);
+        record(false);
+        record(true);
+        record(true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void failureRateIsMeasuredOverRecentWindow() {
+        record(true);
+        for (int i = 0; i < 4; i++) {
+            record(false);
+        }
+        // 첫 실패는 창에서 밀려나 실패 1건 / 4건
+        record(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        record(true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenAdmitsLimitedTrialsAndClosesWhenAllSucceed() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNotEquals(CircuitBreaker.REJECTED, first);
+        assertNotEquals(CircuitBreaker.REJECTED, second);
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        breaker.onResult(first, false);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onResult(second, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenFailureReopens() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        breaker.onResult(breaker.tryAcquire(), true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void staysOpenUntilOpenDurationElapses() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void callsAdmittedBeforeTransitionAreNotCountedAsTrials() {
+        long slowClosedCall = breaker.tryAcquire();
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        long trial = breaker.tryAcquire();
+
+        // CLOSED에서 시작해 HALF_OPEN 중에 끝난 호출은 성공이든 실패든 무시
+        breaker.onResult(slowClosedCall, true);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onResult(trial, false);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onResult(breaker.tryAcquire(), false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void trialsFinishingAfterCloseDoNotAffectNewWindow() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        breaker.onResult(first, false);
+        breaker.onResult(second, false);
+
+        // 이미 CLOSED로 전환된 뒤 도착한 이전 세대 결과
+        breaker.onResult(first, true);
+        breaker.onResult(second, true);
+        record(true);
+        record(true);
+        record(false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void record(boolean failed) {
+        breaker.onResult(breaker.tryAcquire(), failed);
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            record(true);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,139 @@
+package com.couple.common.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientDependencyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsWhenBulkheadIsFullAndReleasesPermitOnCompletion() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder().maxConcurrentCalls(1).build());
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = dependency.executeAsync(() -> pending, null);
+
+        ResilienceException rejected = assertThrows(ResilienceException.class,
+                () -> dependency.execute(() -> CompletableFuture.completedFuture("second"), null));
+        assertEquals(ResilienceException.Reason.BULKHEAD_FULL, rejected.getReason());
+
+        pending.complete("first");
+        assertEquals("first", first.join());
+        assertEquals("third", dependency.execute(() -> CompletableFuture.completedFuture("third"), null));
+    }
+
+    @Test
+    void timesOutAndCancelsPendingCall() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder().timeout(Duration.ofMillis(50)).build());
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        ResilienceException timeout = assertThrows(ResilienceException.class,
+                () -> dependency.execute(() -> pending, null));
+
+        assertEquals(ResilienceException.Reason.TIMEOUT, timeout.getReason());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void returnsFallbackOnFailure() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.defaults());
+
+        String result = dependency.execute(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("boom")), error -> "fallback:" + error.getMessage());
+
+        assertEquals("fallback:boom", result);
+    }
+
+    @Test
+    void rejectsWithoutCallingWhileCircuitIsOpen() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .build());
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class,
+                    () -> dependency.execute(() -> CompletableFuture.failedFuture(new IllegalStateException("boom")), null));
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        ResilienceException rejected = assertThrows(ResilienceException.class,
+                () -> dependency.execute(() -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.completedFuture("never");
+                }, null));
+
+        assertEquals(ResilienceException.Reason.CIRCUIT_OPEN, rejected.getReason());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void hedgedCallWinsWhenFirstCallIsSlow() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(2))
+                .hedgeDelay(Duration.ofMillis(30))
+                .build());
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        String result = dependency.executeIdempotent(() -> {
+            CompletableFuture<String> attempt = attempts.isEmpty()
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture("hedged");
+            attempts.add(attempt);
+            return attempt;
+        }, null);
+
+        assertEquals("hedged", result);
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.get(0).isCancelled());
+        assertEquals(1.0, meterRegistry.get("external.call.hedged").counter().count());
+    }
+
+    @Test
+    void doesNotHedgeWhenFirstCallRespondsInTime() throws InterruptedException {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder()
+                .hedgeDelay(Duration.ofMillis(30))
+                .build());
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = dependency.executeIdempotent(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("first");
+        }, null);
+        Thread.sleep(100);
+
+        assertEquals("first", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void doesNotHedgeWhenBulkheadIsFull() {
+        ResilientDependency dependency = dependency(ResiliencePolicy.builder()
+                .maxConcurrentCalls(1)
+                .timeout(Duration.ofMillis(200))
+                .hedgeDelay(Duration.ofMillis(30))
+                .build());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ResilienceException.class, () -> dependency.executeIdempotent(() -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<String>();
+        }, null));
+
+        assertEquals(1, calls.get());
+        assertEquals(0.0, meterRegistry.get("external.call.hedged").counter().count());
+    }
+
+    private ResilientDependency dependency(ResiliencePolicy policy) {
+        return new ResilientDependency("test", policy, meterRegistry);
+    }
+}
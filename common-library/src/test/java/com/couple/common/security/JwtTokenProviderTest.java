@@ -0,0 +1,54 @@
+package com.couple.common.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-0123456789";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000);
+
+    @Test
+    void parsesGeneratedToken() {
+        UUID userId = UUID.randomUUID();
+        UUID coupleId = UUID.randomUUID();
+
+        JwtPrincipal principal = provider.parseToken(provider.generateToken(userId, coupleId));
+
+        assertEquals(userId, principal.userId());
+        assertEquals(coupleId, principal.coupleId());
+    }
+
+    @Test
+    void rejectsSignedTokenWithoutExpiration() {
+        String token = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .claim("coupleId", "null")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThrows(JwtException.class, () -> provider.parseToken(token));
+        assertTrue(provider.resolvePrincipal(token).isEmpty());
+    }
+
+    @Test
+    void rejectsSignedTokenWithoutSubject() {
+        String token = Jwts.builder()
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertTrue(provider.resolvePrincipal(token).isEmpty());
+    }
+}
@@ -2,8 +2,10 @@ package com.couple.couple_chat;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.couple.couple_chat")
+@EnableScheduling
 public class CoupleChatApplication {
 
     public static void main(String[] args) {
@@ -1,5 +1,6 @@
 package com.couple.couple_chat.chat.controller;
 
+import com.couple.couple_chat.chat.dto.ChatMessagePageResponse;
 import com.couple.couple_chat.chat.dto.ChatMessageRequest;
 import com.couple.couple_chat.chat.dto.ChatMessageResponse;
 import com.couple.couple_chat.chat.dto.CreateChatRoomRequest;
@@ -9,6 +10,7 @@ import com.couple.couple_chat.chat.service.CoupleChatService;
 import com.couple.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.*;
@@ -38,25 +40,70 @@ public class CoupleChatController {
     }
 
     /**
-     * 채팅방 메시지 조회 (최신순)
+     * 채팅방 메시지 조회 (최신순, 최근 100개)
+     * 본문은 기존과 같은 목록이며, 잘린 경우 X-Has-Next/X-Next-Cursor 헤더로 알립니다.
+     * 이전 메시지는 /messages/page?cursor={X-Next-Cursor}로 조회합니다.
+     *
+     * @deprecated /messages/page 사용
      */
+    @Deprecated
     @GetMapping("/couples/{coupleId}/messages")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getChatMessages(
             @PathVariable UUID coupleId) {
         
-        List<ChatMessageResponse> messages = coupleChatService.getChatMessagesByCoupleId(coupleId);
-        return ResponseEntity.ok(ApiResponse.success("메시지 목록을 조회했습니다.", messages));
+        ChatMessagePageResponse page = coupleChatService.getChatMessagesByCoupleId(coupleId);
+        return legacyPage(coupleId, page);
     }
 
     /**
-     * 채팅방 메시지 조회 (시간순)
+     * 채팅방 메시지 조회 (최근 100개를 시간순으로)
+     * 본문은 기존과 같은 목록이며, 잘린 경우 X-Has-Next/X-Next-Cursor 헤더로 알립니다.
+     * 이전 메시지는 /messages/page?cursor={X-Next-Cursor}(최신순)로 조회합니다.
+     *
+     * @deprecated /messages/page 사용
      */
+    @Deprecated
     @GetMapping("/couples/{coupleId}/messages/time")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getChatMessagesByTime(
             @PathVariable UUID coupleId) {
         
-        List<ChatMessageResponse> messages = coupleChatService.getChatMessagesByCoupleIdAndTime(coupleId);
-        return ResponseEntity.ok(ApiResponse.success("메시지 목록을 조회했습니다.", messages));
+        ChatMessagePageResponse page = coupleChatService.getChatMessagesByCoupleIdAndTime(coupleId);
+        return legacyPage(coupleId, page);
+    }
+
+    /**
+     * 페이지 없는 기존 응답 형식 + 다음 페이지 정보 헤더, 폐기 예정 헤더(Deprecation/Link)
+     */
+    private ResponseEntity<ApiResponse<List<ChatMessageResponse>>> legacyPage(UUID coupleId, ChatMessagePageResponse page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, "</api/couple-chat/couples/" + coupleId + "/messages/page>; rel=\"successor-version\"")
+                .header("X-Has-Next", String.valueOf(page.isHasNext()));
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(ApiResponse.success("메시지 목록을 조회했습니다.", page.getMessages()));
+    }
+
+    /**
+     * 채팅방 메시지 커서 기반 조회
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다.
+     */
+    @GetMapping("/couples/{coupleId}/messages/page")
+    public ResponseEntity<ApiResponse<ChatMessagePageResponse>> getChatMessagePage(
+            @PathVariable UUID coupleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(defaultValue = "desc") String order) {
+
+        try {
+            ChatMessagePageResponse page = coupleChatService.getChatMessagePage(
+                    coupleId, cursor, size, "asc".equalsIgnoreCase(order));
+            return ResponseEntity.ok(ApiResponse.success("메시지 목록을 조회했습니다.", page));
+        } catch (IllegalArgumentException e) {
+            log.warn("메시지 페이지 조회 요청 오류: coupleId={}, error={}", coupleId, e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.couple.couple_chat.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+
+    private List<ChatMessageResponse> messages;
+    private String nextCursor; // 다음 페이지 조회용 커서 (없으면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package com.couple.couple_chat.chat.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 조회용 프로젝션 (응답에 필요한 컬럼만 조회)
+ */
+public interface ChatMessageView {
+
+    UUID getId();
+
+    UUID getSenderId();
+
+    String getMessage();
+
+    String getMessageType();
+
+    Boolean getIsRead();
+
+    LocalDateTime getReadAt();
+
+    LocalDateTime getCreatedAt();
+}
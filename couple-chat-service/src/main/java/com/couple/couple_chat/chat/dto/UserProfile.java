@@ -0,0 +1,24 @@
+package com.couple.couple_chat.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * user-couple-service /api/users/me 응답 중 채팅에서 사용하는 필드만 매핑
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserProfile {
+
+    private UUID id;
+    private String name;
+    private UUID coupleId;
+}
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "couple_chat_messages")
+@Table(name = "couple_chat_messages", indexes = {
+        // 키셋 페이지네이션 (room_id, created_at, id) 탐색용
+        @Index(name = "idx_chat_messages_room_created_id", columnList = "room_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
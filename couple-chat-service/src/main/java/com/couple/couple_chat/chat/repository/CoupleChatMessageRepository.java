@@ -1,5 +1,6 @@
 package com.couple.couple_chat.chat.repository;
 
+import com.couple.couple_chat.chat.dto.ChatMessageView;
 import com.couple.couple_chat.chat.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,17 +40,36 @@ public interface CoupleChatMessageRepository extends JpaRepository<ChatMessage,
     @Query("SELECT c FROM ChatMessage c JOIN ChatRoom r ON c.roomId = r.id WHERE r.coupleId = :coupleId ORDER BY c.createdAt ASC")
     Page<ChatMessage> findByCoupleIdOrderByCreatedAtAsc(@Param("coupleId") UUID coupleId, Pageable pageable);
 
-    // 페이징 없는 메서드들
-    @Query("SELECT c FROM ChatMessage c JOIN ChatRoom r ON c.roomId = r.id WHERE r.coupleId = :coupleId ORDER BY c.createdAt DESC")
-    List<ChatMessage> findByCoupleIdOrderByCreatedAtDesc(@Param("coupleId") UUID coupleId);
-
-    @Query("SELECT c FROM ChatMessage c JOIN ChatRoom r ON c.roomId = r.id WHERE r.coupleId = :coupleId ORDER BY c.createdAt ASC")
-    List<ChatMessage> findByCoupleIdOrderByCreatedAtAsc(@Param("coupleId") UUID coupleId);
-
     @Query("SELECT COUNT(c) FROM ChatMessage c JOIN ChatRoom r ON c.roomId = r.id WHERE r.coupleId = :coupleId AND c.senderId != :userId AND c.isRead = false")
     Long countUnreadMessagesByCoupleId(@Param("coupleId") UUID coupleId, @Param("userId") UUID userId);
 
     @Modifying
     @Query("UPDATE ChatMessage c SET c.isRead = true, c.readAt = :readAt WHERE c.roomId IN (SELECT r.id FROM ChatRoom r WHERE r.coupleId = :coupleId) AND c.senderId != :userId AND c.isRead = false")
     void markMessagesAsReadByCoupleId(@Param("coupleId") UUID coupleId, @Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
-} 
\ No newline at end of file
+
+    // 키셋 페이지네이션 (roomId 기준, (createdAt, id) 복합 커서)
+    String VIEW_COLUMNS = "c.id AS id, c.senderId AS senderId, c.message AS message, c.messageType AS messageType, "
+            + "c.isRead AS isRead, c.readAt AS readAt, c.createdAt AS createdAt";
+
+    @Query("SELECT " + VIEW_COLUMNS + " FROM ChatMessage c WHERE c.roomId = :roomId ORDER BY c.createdAt DESC, c.id DESC")
+    List<ChatMessageView> findViewsByRoomIdOrderByCreatedAtDesc(@Param("roomId") UUID roomId, Pageable pageable);
+
+    @Query("SELECT " + VIEW_COLUMNS + " FROM ChatMessage c WHERE c.roomId = :roomId ORDER BY c.createdAt ASC, c.id ASC")
+    List<ChatMessageView> findViewsByRoomIdOrderByCreatedAtAsc(@Param("roomId") UUID roomId, Pageable pageable);
+
+    @Query("SELECT " + VIEW_COLUMNS + " FROM ChatMessage c WHERE c.roomId = :roomId "
+            + "AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ChatMessageView> findViewsByRoomIdBefore(@Param("roomId") UUID roomId,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  Pageable pageable);
+
+    @Query("SELECT " + VIEW_COLUMNS + " FROM ChatMessage c WHERE c.roomId = :roomId "
+            + "AND (c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<ChatMessageView> findViewsByRoomIdAfter(@Param("roomId") UUID roomId,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") UUID cursorId,
+                                                 Pageable pageable);
+}
\ No newline at end of file
@@ -1,17 +1,21 @@
 package com.couple.couple_chat.chat.service;
 
+import com.couple.common.transaction.AfterCommit;
+import com.couple.couple_chat.chat.dto.ChatMessageCursor;
+import com.couple.couple_chat.chat.dto.ChatMessagePageResponse;
 import com.couple.couple_chat.chat.dto.ChatMessageRequest;
 import com.couple.couple_chat.chat.dto.ChatMessageResponse;
+import com.couple.couple_chat.chat.dto.ChatMessageView;
 import com.couple.couple_chat.chat.dto.MessageClassificationResponse;
 import com.couple.couple_chat.chat.dto.ClassificationResult;
 import com.couple.couple_chat.chat.entity.ChatMessage;
 import com.couple.couple_chat.chat.entity.ChatRoom;
 import com.couple.couple_chat.chat.repository.CoupleChatMessageRepository;
 import com.couple.couple_chat.chat.repository.CoupleChatRoomRepository;
+import com.couple.couple_chat.websocket.CoupleChatRelay;
 import org.springframework.web.reactive.function.client.WebClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -19,6 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -31,10 +37,13 @@ import java.util.stream.Collectors;
 public class CoupleChatService {
 
     private static final String CLASSIFICATION_API_URL = "http://49.50.131.82:8000/api/v1/text/classify";
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final CoupleChatRoomRepository chatRoomRepository;
     private final CoupleChatMessageRepository chatMessageRepository;
-    private final WebClient webClient;
+    private final WebClient aiWebClient;
+    private final UserProfileCache userProfileCache;
+    private final CoupleChatRelay chatRelay;
 
     /**
      * 커플 채팅방 생성 또는 조회
@@ -86,8 +95,16 @@ public class CoupleChatService {
 
         ChatMessage savedMessage = chatMessageRepository.save(message);
 
-        // REST API 응답만 반환
-        return convertToResponse(savedMessage);
+        ChatMessageResponse response = convertToResponse(savedMessage, room.getCoupleId());
+
+        // 커밋 이후 상대방 WebSocket 세션으로 전달 (다른 노드는 Redis 중계)
+        Map<String, Object> pushMessage = Map.of(
+                "type", "chat.message",
+                "message", response
+        );
+        AfterCommit.run(() -> chatRelay.sendToPartners(room.getCoupleId(), senderId, pushMessage));
+
+        return response;
     }
 
     /**
@@ -95,13 +112,11 @@ public class CoupleChatService {
      */
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getChatMessages(UUID roomId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ChatMessage> messages = chatMessageRepository
-                .findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        ChatRoom room = getChatRoomById(roomId);
+        List<ChatMessageView> messages = chatMessageRepository
+                .findViewsByRoomIdOrderByCreatedAtDesc(room.getId(), PageRequest.of(page, size));
 
-        return messages.getContent().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return convertToResponses(messages, room.getCoupleId());
     }
 
     /**
@@ -109,39 +124,81 @@ public class CoupleChatService {
      */
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getChatMessagesByTime(UUID roomId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ChatMessage> messages = chatMessageRepository
-                .findByRoomIdOrderByCreatedAtAsc(roomId, pageable);
+        ChatRoom room = getChatRoomById(roomId);
+        List<ChatMessageView> messages = chatMessageRepository
+                .findViewsByRoomIdOrderByCreatedAtAsc(room.getId(), PageRequest.of(page, size));
 
-        return messages.getContent().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return convertToResponses(messages, room.getCoupleId());
     }
 
     /**
-     * 커플 ID로 채팅방 메시지 조회 (최신순)
+     * 커플 ID로 채팅방 메시지 조회 (최신순, 최근 MAX_PAGE_SIZE개)
+     * 전체 히스토리를 한 번에 읽지 않도록 키셋 조회의 첫 페이지를 반환합니다.
+     * 이전 메시지는 nextCursor로 getChatMessagePage(최신순)를 이어서 조회합니다.
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getChatMessagesByCoupleId(UUID coupleId) {
-        List<ChatMessage> messages = chatMessageRepository
-                .findByCoupleIdOrderByCreatedAtDesc(coupleId);
+    public ChatMessagePageResponse getChatMessagesByCoupleId(UUID coupleId) {
+        return getChatMessagePage(coupleId, null, MAX_PAGE_SIZE, false);
+    }
 
-        return messages.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * 커플 ID로 채팅방 메시지 조회 (시간순, 최근 MAX_PAGE_SIZE개)
+     * 최신 메시지가 빠지지 않도록 최신순 첫 페이지를 시간순으로 뒤집어 반환합니다.
+     * nextCursor는 최신순 커서이므로 이전 메시지는 getChatMessagePage(최신순)로 이어서 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponse getChatMessagesByCoupleIdAndTime(UUID coupleId) {
+        ChatMessagePageResponse page = getChatMessagePage(coupleId, null, MAX_PAGE_SIZE, false);
+        List<ChatMessageResponse> ascending = new ArrayList<>(page.getMessages());
+        Collections.reverse(ascending);
+        page.setMessages(ascending);
+        return page;
     }
 
     /**
-     * 커플 ID로 채팅방 메시지 조회 (시간순)
+     * 커플 ID로 채팅방 메시지 커서 기반 조회
+     * (createdAt, id) 키셋 탐색으로 히스토리 길이와 관계없이 일정한 비용으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param ascending true면 시간순(커서 이후), false면 최신순(커서 이전)
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getChatMessagesByCoupleIdAndTime(UUID coupleId) {
-        List<ChatMessage> messages = chatMessageRepository
-                .findByCoupleIdOrderByCreatedAtAsc(coupleId);
+    public ChatMessagePageResponse getChatMessagePage(UUID coupleId, String cursor, int size, boolean ascending) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        var roomOptional = chatRoomRepository.findByCoupleId(coupleId);
+        if (roomOptional.isEmpty()) {
+            return ChatMessagePageResponse.builder()
+                    .messages(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+        UUID roomId = roomOptional.get().getId();
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<ChatMessageView> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = ascending
+                    ? chatMessageRepository.findViewsByRoomIdOrderByCreatedAtAsc(roomId, pageable)
+                    : chatMessageRepository.findViewsByRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        } else {
+            ChatMessageCursor decoded = ChatMessageCursor.decode(cursor);
+            messages = ascending
+                    ? chatMessageRepository.findViewsByRoomIdAfter(roomId, decoded.getCreatedAt(), decoded.getId(), pageable)
+                    : chatMessageRepository.findViewsByRoomIdBefore(roomId, decoded.getCreatedAt(), decoded.getId(), pageable);
+        }
 
-        return messages.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        boolean hasNext = messages.size() > pageSize;
+        if (hasNext) {
+            messages = messages.subList(0, pageSize);
+        }
+        ChatMessageView last = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+
+        return ChatMessagePageResponse.builder()
+                .messages(convertToResponses(messages, coupleId))
+                .nextCursor(hasNext ? new ChatMessageCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -208,7 +265,7 @@ public class CoupleChatService {
             // JSON 형태로 요청 body 구성
             Map<String, String> requestBody = Map.of("text", message);
             
-            ClassificationResult response = webClient.post()
+            ClassificationResult response = aiWebClient.post()
                     .uri(CLASSIFICATION_API_URL)
                     .bodyValue(requestBody)
                     .retrieve()
@@ -228,19 +285,38 @@ public class CoupleChatService {
         }
     }
 
-    private ChatMessageResponse convertToResponse(ChatMessage message) {
-        // 채팅방 정보 조회하여 coupleId 가져오기
-        ChatRoom room = chatRoomRepository.findById(message.getRoomId())
+    private ChatRoom getChatRoomById(UUID roomId) {
+        return chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다"));
-        
-        // 사용자 이름 조회 (user-couple-service 호출)
-        String senderName = getUserName(message.getSenderId());
-        
+    }
+
+    private List<ChatMessageResponse> convertToResponses(List<ChatMessageView> messages, UUID coupleId) {
+        // 페이지 내 발신자별로 한 번만 이름 조회 (캐시 미스 시에만 user-couple-service 호출)
+        Map<UUID, String> senderNames = userProfileCache.getNames(messages.stream()
+                .map(ChatMessageView::getSenderId)
+                .collect(Collectors.toSet()));
+
+        return messages.stream()
+                .map(message -> ChatMessageResponse.builder()
+                        .id(message.getId())
+                        .coupleId(coupleId)
+                        .senderId(message.getSenderId())
+                        .senderName(senderNames.get(message.getSenderId()))
+                        .message(message.getMessage())
+                        .messageType(message.getMessageType())
+                        .isRead(message.getIsRead())
+                        .readAt(message.getReadAt())
+                        .createdAt(message.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private ChatMessageResponse convertToResponse(ChatMessage message, UUID coupleId) {
         return ChatMessageResponse.builder()
                 .id(message.getId())
-                .coupleId(room.getCoupleId())
+                .coupleId(coupleId)
                 .senderId(message.getSenderId())
-                .senderName(senderName)
+                .senderName(userProfileCache.getName(message.getSenderId()))
                 .message(message.getMessage())
                 .messageType(message.getMessageType())
                 .isRead(message.getIsRead())
@@ -249,67 +325,16 @@ public class CoupleChatService {
                 .build();
     }
 
-    /**
-     * 사용자 이름 조회
-     */
-    private String getUserName(UUID userId) {
-        try {
-            // user-couple-service의 사용자 정보 API 호출 (X-User-ID 헤더 사용)
-            String response = webClient.get()
-                    .uri("http://user-couple-service:8081/api/users/me")
-                    .header("X-User-ID", userId.toString())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            
-            // JSON에서 name 필드 추출
-            if (response != null && response.contains("\"name\"")) {
-                int nameIndex = response.indexOf("\"name\":\"");
-                if (nameIndex != -1) {
-                    int startIndex = nameIndex + 8;
-                    int endIndex = response.indexOf("\"", startIndex);
-                    if (endIndex != -1) {
-                        return response.substring(startIndex, endIndex);
-                    }
-                }
-            }
-            
-            return "사용자";
-        } catch (Exception e) {
-            log.error("사용자 이름 조회 실패: userId={}, error={}", userId, e.getMessage());
-            return "사용자";
-        }
-    }
-
-
-
     /**
      * 사용자 ID로 커플 ID 조회
      */
     private UUID getCoupleIdByUserId(UUID userId) {
         try {
-            // user-couple-service의 사용자 정보 API 호출 (X-User-ID 헤더 사용)
-            String response = webClient.get()
-                    .uri("http://user-couple-service:8081/api/users/me")
-                    .header("X-User-ID", userId.toString())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            
-            // JSON에서 coupleId 필드 추출
-            if (response != null && response.contains("\"coupleId\"")) {
-                int coupleIdIndex = response.indexOf("\"coupleId\":\"");
-                if (coupleIdIndex != -1) {
-                    int startIndex = coupleIdIndex + 12;
-                    int endIndex = response.indexOf("\"", startIndex);
-                    if (endIndex != -1) {
-                        String coupleIdStr = response.substring(startIndex, endIndex);
-                        return UUID.fromString(coupleIdStr);
-                    }
-                }
+            UUID coupleId = userProfileCache.get(userId).getCoupleId();
+            if (coupleId == null) {
+                throw new RuntimeException("커플 ID를 찾을 수 없습니다");
             }
-            
-            throw new RuntimeException("커플 ID를 찾을 수 없습니다");
+            return coupleId;
         } catch (Exception e) {
             log.error("커플 ID 조회 실패: userId={}, error={}", userId, e.getMessage());
             throw new RuntimeException("커플 ID 조회 실패: " + e.getMessage());
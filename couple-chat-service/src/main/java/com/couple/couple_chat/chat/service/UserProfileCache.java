@@ -0,0 +1,147 @@
+package com.couple.couple_chat.chat.service;
+
+import com.couple.common.dto.ApiResponse;
+import com.couple.couple_chat.chat.dto.UserProfile;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * user-couple-service 사용자 정보 로컬 캐시
+ * - 최대 크기와 TTL로 제한되며, 동일 사용자에 대한 동시 조회는 한 번의 원격 호출로 합쳐집니다.
+ * - 히트/미스/제거 지표는 chat.user-profile 캐시 이름으로 노출됩니다.
+ * - 커플이 없는 사용자(coupleId null)는 곧 커플이 될 수 있으므로 짧은 TTL(uncoupled-ttl-seconds)로만 보관합니다.
+ * - user-couple-service의 couple:changed 메시지를 받으면 해당 커플 구성원과 커플이 없는 사용자 항목을 제거합니다.
+ *   (커플 생성 시 구성원의 coupleId가 null에서 바뀌고, 해제/이름 변경 시 해당 커플 구성원 정보가 바뀜)
+ */
+@Slf4j
+@Component
+public class UserProfileCache implements MessageListener {
+
+    private static final String USER_INFO_URL = "http://user-couple-service:8081/api/users/me";
+    private static final String DEFAULT_USER_NAME = "사용자";
+    private static final String COUPLE_CHANGED_CHANNEL = "couple:changed";
+
+    private final WebClient webClient;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoadingCache<UUID, UserProfile> cache;
+
+    public UserProfileCache(WebClient webClient,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${chat.user-cache.max-size:10000}") long maxSize,
+                            @Value("${chat.user-cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${chat.user-cache.uncoupled-ttl-seconds:10}") long uncoupledTtlSeconds) {
+        this.webClient = webClient;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ProfileExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(uncoupledTtlSeconds)))
+                .recordStats()
+                .build(this::fetchUserProfile);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat.user-profile");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(COUPLE_CHANGED_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UUID coupleId = UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8).trim());
+            cache.asMap().values().removeIf(profile ->
+                    profile.getCoupleId() == null || profile.getCoupleId().equals(coupleId));
+            log.debug("커플 변경으로 사용자 정보 캐시 제거: coupleId={}", coupleId);
+        } catch (Exception e) {
+            log.warn("커플 변경 메시지 처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 정보 조회 (캐시 미스 시 user-couple-service 호출)
+     */
+    public UserProfile get(UUID userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * 사용자 이름 조회, 실패 시 기본 이름 반환
+     */
+    public String getName(UUID userId) {
+        try {
+            UserProfile profile = cache.get(userId);
+            return profile.getName() != null ? profile.getName() : DEFAULT_USER_NAME;
+        } catch (Exception e) {
+            log.error("사용자 이름 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return DEFAULT_USER_NAME;
+        }
+    }
+
+    /**
+     * 여러 사용자의 이름을 한 번에 조회 (사용자당 최대 한 번의 원격 호출)
+     */
+    public Map<UUID, String> getNames(Collection<UUID> userIds) {
+        Map<UUID, String> names = new HashMap<>();
+        for (UUID userId : userIds) {
+            names.computeIfAbsent(userId, this::getName);
+        }
+        return names;
+    }
+
+    private UserProfile fetchUserProfile(UUID userId) {
+        log.debug("사용자 정보 캐시 미스, user-couple-service 호출: userId={}", userId);
+        ApiResponse<UserProfile> response = webClient.get()
+                .uri(USER_INFO_URL)
+                .header("X-User-ID", userId.toString())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<UserProfile>>() {})
+                .block();
+
+        if (response == null || response.getData() == null) {
+            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다: " + userId);
+        }
+        return response.getData();
+    }
+
+    /**
+     * 커플이 있는 사용자는 ttl, 없는 사용자는 uncoupledTtl 동안 보관 (조회로는 연장하지 않음)
+     */
+    private record ProfileExpiry(Duration ttl, Duration uncoupledTtl) implements Expiry<UUID, UserProfile> {
+
+        @Override
+        public long expireAfterCreate(UUID userId, UserProfile profile, long currentTime) {
+            return (profile.getCoupleId() != null ? ttl : uncoupledTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID userId, UserProfile profile, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, profile, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID userId, UserProfile profile, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -35,6 +35,8 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 기존 목록 API의 다음 페이지/폐기 예정 헤더
+        configuration.setExposedHeaders(Arrays.asList("X-Has-Next", "X-Next-Cursor", "Deprecation", "Link"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,14 +1,31 @@
 package com.couple.couple_chat.config;
 
+import com.couple.common.http.WebClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.reactive.function.client.WebClient;
 
+/**
+ * upstream별 WebClient (커넥션 풀 분리, 설정은 http.client.{이름}.*)
+ * - webClient: 내부 서비스 호출 (user-couple-service)
+ * - aiWebClient: 외부 AI 서버 (메시지 감정 분류)
+ */
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClientFactory webClientFactory(WebClient.Builder webClientBuilder, Environment environment) {
+        return new WebClientFactory(webClientBuilder, environment);
     }
-} 
\ No newline at end of file
+
+    @Bean
+    public WebClient webClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("internal");
+    }
+
+    @Bean
+    public WebClient aiWebClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("ai");
+    }
+}
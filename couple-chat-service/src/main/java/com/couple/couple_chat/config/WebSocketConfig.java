@@ -12,13 +12,17 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
-import com.couple.couple_chat.controller.WebSocketController;
+import com.couple.couple_chat.chat.service.UserProfileCache;
+import com.couple.couple_chat.websocket.CoupleChatRelay;
+import com.couple.couple_chat.websocket.CoupleSessionRegistry;
+import com.couple.common.security.JwtPrincipal;
 import com.couple.common.security.JwtTokenProvider;
 import com.couple.couple_chat.location.dto.LocationShareRequest;
 import com.couple.couple_chat.location.dto.LocationShareResponse;
 import com.couple.couple_chat.location.service.LocationService;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
@@ -29,9 +33,13 @@ import java.time.LocalDateTime;
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final LocationService locationService;
+    private final CoupleSessionRegistry sessionRegistry;
+    private final CoupleChatRelay chatRelay;
+    private final UserProfileCache userProfileCache;
+
+    private final JwtTokenProvider jwtTokenProvider;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
 
 
     @Override
@@ -61,8 +69,14 @@ public class WebSocketConfig implements WebSocketConfigurer {
                 // 사용자 ID 추출 (헤더에서)
                 UUID userId = extractUserIdFromSession(session);
                 
-                // 세션 등록
-                WebSocketController.registerSession(session.getId(), session, userId);
+                // 세션 등록 (커플 ID는 서버에서 조회한 값만 사용)
+                UUID coupleId = resolveCoupleId(userId);
+                sessionRegistry.register(session, userId, coupleId);
+                
+                // 다른 노드에 연결된 상대방 메시지 수신을 위해 커플 채널 구독
+                if (coupleId != null) {
+                    chatRelay.subscribe(coupleId);
+                }
                 
                 // 연결 성공 메시지 전송
                 String welcomeMessage = objectMapper.writeValueAsString(Map.of(
@@ -71,7 +85,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                     "sessionId", session.getId(),
                     "userId", userId.toString()
                 ));
-                session.sendMessage(new TextMessage(welcomeMessage));
+                sessionRegistry.reply(session, new TextMessage(welcomeMessage));
             }
 
             @Override
@@ -111,7 +125,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                                     "originalMessage", messageData,
                                     "timestamp", System.currentTimeMillis()
                                 );
-                                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+                                sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(response)));
                         }
                     } else {
                         // messageType이 없는 경우 기본 에코 응답
@@ -120,7 +134,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                             "originalMessage", messageData,
                             "timestamp", System.currentTimeMillis()
                         );
-                        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+                        sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(response)));
                     }
                     
                 } catch (Exception e) {
@@ -130,7 +144,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                         "message", "메시지 처리 중 오류가 발생했습니다.",
                         "error", e.getMessage()
                     );
-                    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(errorResponse)));
+                    sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(errorResponse)));
                 }
             }
             
@@ -142,7 +156,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                     "content", messageData.get("content"),
                     "timestamp", System.currentTimeMillis()
                 );
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+                sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(response)));
             }
             
             private void handleLocationMessage(WebSocketSession session, Map<String, Object> messageData) throws Exception {
@@ -166,7 +180,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
                         "error", "coupleId 또는 roomId가 필요합니다",
                         "timestamp", System.currentTimeMillis()
                     );
-                    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(errorResponse)));
+                    sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(errorResponse)));
                     return;
                 }
                 
@@ -193,7 +207,10 @@ public class WebSocketConfig implements WebSocketConfigurer {
                         "messageType", "LOCATION"
                     );
                     
-                    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+                    sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(response)));
+                    
+                    // 커플 상대방에게 위치 전달
+                    broadcastLocationToCouple(coupleId, senderId, locationResponse, session);
                     
                     log.info("위치 공유 성공: senderId={}, coupleId={}", senderId, coupleId);
                     
@@ -204,59 +221,33 @@ public class WebSocketConfig implements WebSocketConfigurer {
                         "error", "위치 공유 처리 중 오류가 발생했습니다: " + e.getMessage(),
                         "timestamp", System.currentTimeMillis()
                     );
-                    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(errorResponse)));
+                    sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(errorResponse)));
                 }
             }
             
             // 커플의 다른 사용자에게 위치 정보 브로드캐스트
             private void broadcastLocationToCouple(UUID coupleId, UUID senderId, LocationShareResponse locationResponse, WebSocketSession currentSession) {
                 try {
-                    // 커플의 다른 사용자 찾기 (실제로는 사용자 서비스에서 조회해야 함)
-                    // 여기서는 간단히 모든 세션에 브로드캐스트
+                    // 클라이언트가 보낸 coupleId(roomId일 수 있음)가 아닌 연결 시 조회한 커플로만 전달
+                    UUID registeredCoupleId = sessionRegistry.getCoupleId(currentSession.getId());
+                    if (registeredCoupleId == null) {
+                        log.warn("커플 정보가 없어 위치 브로드캐스트 생략: sessionId={}, senderId={}", 
+                                currentSession.getId(), senderId);
+                        return;
+                    }
+                    
                     Map<String, Object> broadcastMessage = Map.of(
                         "type", "location.share.broadcast",
                         "senderId", senderId.toString(),
-                        "coupleId", coupleId.toString(),
+                        "coupleId", registeredCoupleId.toString(),
                         "latitude", locationResponse.getLatitude(),
                         "longitude", locationResponse.getLongitude(),
                         "timestamp", locationResponse.getTimestamp() != null ? locationResponse.getTimestamp().toString() : LocalDateTime.now().toString(),
                         "messageType", "LOCATION"
                     );
                     
-                    String messageJson = objectMapper.writeValueAsString(broadcastMessage);
-                    
-                    // 모든 활성 세션에 브로드캐스트 (실제로는 커플 멤버만)
-                    Map<String, WebSocketSession> activeSessions = WebSocketController.getActiveSessionsMap();
-                    int broadcastCount = 0;
-                    String currentSessionId = currentSession.getId();
-                    
-                    log.info("브로드캐스트 시작: 현재 세션 ID={}, 전체 세션 수={}", currentSessionId, activeSessions.size());
-                    
-                    for (Map.Entry<String, WebSocketSession> entry : activeSessions.entrySet()) {
-                        String sessionId = entry.getKey();
-                        WebSocketSession activeSession = entry.getValue();
-                        
-                        // 자신의 세션은 제외
-                        if (sessionId.equals(currentSessionId)) {
-                            log.info("자신의 세션 제외: {}", sessionId);
-                            continue;
-                        }
-                        
-                        if (activeSession.isOpen()) {
-                            try {
-                                activeSession.sendMessage(new TextMessage(messageJson));
-                                broadcastCount++;
-                                log.info("위치 정보 브로드캐스트 성공: sessionId={}", sessionId);
-                            } catch (Exception e) {
-                                log.error("브로드캐스트 전송 실패: sessionId={}", sessionId, e);
-                            }
-                        } else {
-                            log.info("세션이 닫혀있음: {}", sessionId);
-                        }
-                    }
-                    
-                    log.info("위치 정보 브로드캐스트 완료: coupleId={}, senderId={}, 전송된 세션 수={}", 
-                            coupleId, senderId, broadcastCount);
+                    // 커플 상대방 세션에만 전송 (다른 노드의 상대방은 Redis 중계)
+                    chatRelay.sendToPartners(registeredCoupleId, senderId, broadcastMessage);
                     
                 } catch (Exception e) {
                     log.error("위치 정보 브로드캐스트 중 오류", e);
@@ -269,14 +260,27 @@ public class WebSocketConfig implements WebSocketConfigurer {
                     "type", "pong",
                     "timestamp", System.currentTimeMillis()
                 );
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+                sessionRegistry.reply(session, new TextMessage(objectMapper.writeValueAsString(response)));
     }
 
     @Override
             public void afterConnectionClosed(WebSocketSession session, org.springframework.web.socket.CloseStatus status) throws Exception {
                 log.info("WebSocket 연결 종료: {} - {}", session.getId(), status);
                 // 세션 해제
-                WebSocketController.unregisterSession(session.getId());
+                UUID coupleId = sessionRegistry.unregister(session.getId());
+                if (coupleId != null) {
+                    chatRelay.unsubscribeIfIdle(coupleId);
+                }
+            }
+            
+            // 사용자의 커플 ID 조회 (캐시 사용, 실패 시 null)
+            private UUID resolveCoupleId(UUID userId) {
+                try {
+                    return userProfileCache.get(userId).getCoupleId();
+                } catch (Exception e) {
+                    log.warn("커플 ID 조회 실패: userId={}, error={}", userId, e.getMessage());
+                    return null;
+                }
             }
             
             // 사용자 ID 추출 메서드
@@ -295,8 +299,9 @@ public class WebSocketConfig implements WebSocketConfigurer {
                         log.info("토큰에서 사용자 ID 추출 시도: {}", token.substring(0, 20) + "...");
                         
                         // JWT 토큰 검증 및 사용자 ID 추출
-                        if (jwtTokenProvider.validateToken(token)) {
-                            UUID userId = jwtTokenProvider.getUserIdFromToken(token);
+                        Optional<JwtPrincipal> principal = jwtTokenProvider.resolvePrincipal(token);
+                        if (principal.isPresent()) {
+                            UUID userId = principal.get().userId();
                             log.info("JWT 토큰에서 사용자 ID 추출 성공: {}", userId);
                             return userId;
                         } else {
@@ -2,6 +2,7 @@ package com.couple.couple_chat.location.controller;
 
 import com.couple.couple_chat.location.dto.LocationShareRequest;
 import com.couple.couple_chat.location.dto.LocationShareResponse;
+import com.couple.couple_chat.location.dto.LocationTrackResponse;
 import com.couple.couple_chat.location.service.LocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -77,4 +78,16 @@ public class LocationController {
         List<LocationShareResponse> history = locationService.getRecentLocationHistory(coupleId, since);
         return ResponseEntity.ok(history);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 최근 위치 히스토리를 사용자별 polyline으로 조회 (지정된 시간 이후)
+     */
+    @GetMapping("/couple/{coupleId}/recent/polyline")
+    public ResponseEntity<List<LocationTrackResponse>> getRecentLocationTracks(
+            @PathVariable UUID coupleId,
+            @RequestParam LocalDateTime since) {
+        
+        List<LocationTrackResponse> tracks = locationService.getRecentLocationTracks(coupleId, since);
+        return ResponseEntity.ok(tracks);
+    }
+}
@@ -0,0 +1,28 @@
+package com.couple.couple_chat.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 위치 궤적 (Encoded Polyline 형식)
+ * - polyline: 위경도를 1e-5도 단위로 이전 지점과의 차이만 인코딩
+ * - timeDeltas: startTime 기준 경과 초를 같은 방식으로 델타 인코딩
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationTrackResponse {
+
+    private UUID userId;
+    private int pointCount;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String polyline;
+    private String timeDeltas;
+}
@@ -0,0 +1,61 @@
+package com.couple.couple_chat.location.service;
+
+import com.couple.couple_chat.location.entity.LocationHistory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 최신 위치 메모리 테이블
+ * - 위치 공유 시 즉시 갱신되며 최신 위치 조회는 DB를 거치지 않고 여기서 응답합니다.
+ * - 일정 시간 갱신이 없는 항목은 만료되고, 만료/미적재 사용자는 DB 값으로 보완합니다.
+ */
+@Component
+public class LatestLocationTable {
+
+    private final Cache<UUID, LocationHistory> byUser;
+    private final Cache<UUID, Map<UUID, LocationHistory>> byCouple;
+
+    public LatestLocationTable(MeterRegistry meterRegistry,
+                               @Value("${location.latest.ttl-minutes:60}") long ttlMinutes) {
+        this.byUser = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.byCouple = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byUser, "location.latest");
+    }
+
+    /**
+     * 최신 위치 갱신
+     */
+    public void update(LocationHistory location) {
+        byUser.put(location.getUserId(), location);
+        // 커플당 구성원이 두 명뿐이므로 작은 맵을 복사해 교체
+        byCouple.asMap().compute(location.getCoupleId(), (coupleId, members) -> {
+            Map<UUID, LocationHistory> updated = members != null ? new HashMap<>(members) : new HashMap<>();
+            updated.put(location.getUserId(), location);
+            return Map.copyOf(updated);
+        });
+    }
+
+    public LocationHistory getByUserId(UUID userId) {
+        return byUser.getIfPresent(userId);
+    }
+
+    public List<LocationHistory> getByCoupleId(UUID coupleId) {
+        Map<UUID, LocationHistory> members = byCouple.getIfPresent(coupleId);
+        return members != null ? List.copyOf(members.values()) : List.of();
+    }
+}
@@ -0,0 +1,192 @@
+package com.couple.couple_chat.location.service;
+
+import com.couple.couple_chat.location.entity.LocationHistory;
+import com.couple.couple_chat.location.util.TrajectorySimplifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 위치 히스토리 저장 전 다운샘플링 단계
+ * 1. 마지막으로 채택한 지점에서 일정 거리 이상 움직였거나 일정 시간이 지난 핑만 채택합니다.
+ * 2. 채택한 핑은 사용자별 구간에 모았다가 Douglas-Peucker로 단순화한 뒤 지연 쓰기 버퍼로 넘깁니다.
+ * 구간이 닫히기 전까지의 지점은 메모리에만 있으므로 비정상 종료 시 유실 범위가 구간 길이만큼 늘어납니다.
+ */
+@Slf4j
+@Component
+public class LocationDownsampler {
+
+    private final LocationWriteBehindBuffer locationWriteBehindBuffer;
+    private final Map<UUID, Segment> segments = new ConcurrentHashMap<>();
+    private final double minDistanceMeters;
+    private final Duration maxInterval;
+    private final double simplifyToleranceMeters;
+    private final int segmentMaxPoints;
+    private final Duration segmentMaxAge;
+    private final Counter droppedCounter;
+    private final Counter simplifiedCounter;
+
+    public LocationDownsampler(LocationWriteBehindBuffer locationWriteBehindBuffer,
+                               MeterRegistry meterRegistry,
+                               @Value("${location.downsample.min-distance-meters:10}") double minDistanceMeters,
+                               @Value("${location.downsample.max-interval-seconds:30}") long maxIntervalSeconds,
+                               @Value("${location.downsample.simplify-tolerance-meters:5}") double simplifyToleranceMeters,
+                               @Value("${location.downsample.segment-max-points:30}") int segmentMaxPoints,
+                               @Value("${location.downsample.segment-max-age-seconds:60}") long segmentMaxAgeSeconds) {
+        this.locationWriteBehindBuffer = locationWriteBehindBuffer;
+        this.minDistanceMeters = minDistanceMeters;
+        this.maxInterval = Duration.ofSeconds(maxIntervalSeconds);
+        this.simplifyToleranceMeters = simplifyToleranceMeters;
+        this.segmentMaxPoints = segmentMaxPoints;
+        this.segmentMaxAge = Duration.ofSeconds(segmentMaxAgeSeconds);
+
+        this.droppedCounter = Counter.builder("location.downsample.dropped")
+                .description("이동 거리/시간 기준 미달로 저장하지 않은 위치 핑 수")
+                .register(meterRegistry);
+        this.simplifiedCounter = Counter.builder("location.downsample.simplified")
+                .description("궤적 단순화로 제거된 위치 지점 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치 핑 제출
+     *
+     * @return 거리/시간 기준을 통과해 저장 대상이 되었으면 true
+     */
+    public boolean submit(LocationHistory location) {
+        while (true) {
+            Segment segment = segments.computeIfAbsent(location.getUserId(), key -> new Segment());
+            List<LocationHistory> toPersist;
+            synchronized (segment) {
+                // sweep()에서 제거된 구간이면 새 구간으로 다시 시도
+                if (segment.removed) {
+                    continue;
+                }
+                LocationHistory last = segment.lastAccepted();
+                if (last != null && !hasMoved(last, location)) {
+                    droppedCounter.increment();
+                    return false;
+                }
+                segment.points.add(location);
+                toPersist = segment.isFull(segmentMaxPoints, segmentMaxAge, location.getCreatedAt())
+                        ? segment.close(this::simplify)
+                        : List.of();
+            }
+            toPersist.forEach(locationWriteBehindBuffer::enqueueHistory);
+            return true;
+        }
+    }
+
+    /**
+     * 한동안 새 핑이 없는 사용자의 구간을 닫아 저장
+     */
+    @Scheduled(fixedDelayString = "${location.downsample.sweep-interval-ms:5000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        segments.forEach((userId, segment) -> {
+            List<LocationHistory> toPersist;
+            synchronized (segment) {
+                toPersist = segment.isFull(segmentMaxPoints, segmentMaxAge, now)
+                        ? segment.close(this::simplify)
+                        : List.of();
+                // 저장할 지점이 없고 오래 갱신되지 않은 사용자는 제거
+                if (segment.hasOnlyAnchor()
+                        && segment.lastAccepted().getCreatedAt().isBefore(now.minus(segmentMaxAge.multipliedBy(10)))) {
+                    segment.removed = true;
+                    segments.remove(userId, segment);
+                }
+            }
+            toPersist.forEach(locationWriteBehindBuffer::enqueueHistory);
+        });
+    }
+
+    /**
+     * 종료 시 열린 구간을 모두 저장 버퍼로 넘김 (버퍼보다 먼저 종료됨)
+     */
+    @PreDestroy
+    public void flushAll() {
+        segments.values().forEach(segment -> {
+            List<LocationHistory> toPersist;
+            synchronized (segment) {
+                toPersist = segment.close(this::simplify);
+            }
+            toPersist.forEach(locationWriteBehindBuffer::enqueueHistory);
+        });
+        log.info("위치 다운샘플링 구간 종료 저장 완료: 사용자 수={}", segments.size());
+    }
+
+    private boolean hasMoved(LocationHistory last, LocationHistory current) {
+        if (Duration.between(last.getCreatedAt(), current.getCreatedAt()).compareTo(maxInterval) >= 0) {
+            return true;
+        }
+        return TrajectorySimplifier.distanceMeters(last.getLatitude(), last.getLongitude(),
+                current.getLatitude(), current.getLongitude()) >= minDistanceMeters;
+    }
+
+    private List<LocationHistory> simplify(List<LocationHistory> points) {
+        List<LocationHistory> simplified = TrajectorySimplifier.simplify(points, simplifyToleranceMeters);
+        simplifiedCounter.increment(points.size() - simplified.size());
+        return simplified;
+    }
+
+    /**
+     * 사용자별 단순화 대기 구간
+     * 첫 지점은 직전 구간의 끝점(이미 저장됨)일 수 있으며, 이 경우 다음 구간의 기준점으로만 사용합니다.
+     */
+    private static class Segment {
+
+        private final List<LocationHistory> points = new ArrayList<>();
+        private boolean anchorPersisted = false;
+        private boolean removed = false;
+
+        LocationHistory lastAccepted() {
+            return points.isEmpty() ? null : points.get(points.size() - 1);
+        }
+
+        boolean hasOnlyAnchor() {
+            return anchorPersisted && points.size() == 1;
+        }
+
+        boolean isFull(int maxPoints, Duration maxAge, LocalDateTime now) {
+            int pending = anchorPersisted ? points.size() - 1 : points.size();
+            if (pending <= 0) {
+                return false;
+            }
+            return points.size() >= maxPoints
+                    || !points.get(0).getCreatedAt().plus(maxAge).isAfter(now);
+        }
+
+        /**
+         * 구간을 단순화해 저장할 지점을 반환하고, 끝점을 다음 구간의 기준점으로 남김
+         */
+        List<LocationHistory> close(UnaryOperator<List<LocationHistory>> simplifier) {
+            int pending = anchorPersisted ? points.size() - 1 : points.size();
+            if (pending <= 0) {
+                return List.of();
+            }
+            List<LocationHistory> simplified = simplifier.apply(new ArrayList<>(points));
+            List<LocationHistory> toPersist = anchorPersisted
+                    ? simplified.subList(1, simplified.size())
+                    : simplified;
+
+            LocationHistory end = points.get(points.size() - 1);
+            points.clear();
+            points.add(end);
+            anchorPersisted = true;
+            return List.copyOf(toPersist);
+        }
+    }
+}
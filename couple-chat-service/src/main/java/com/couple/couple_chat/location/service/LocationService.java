@@ -1,7 +1,9 @@
 package com.couple.couple_chat.location.service;
 
+import com.couple.common.geo.PolylineCodec;
 import com.couple.couple_chat.location.dto.LocationShareRequest;
 import com.couple.couple_chat.location.dto.LocationShareResponse;
+import com.couple.couple_chat.location.dto.LocationTrackResponse;
 import com.couple.couple_chat.location.entity.LocationHistory;
 import com.couple.couple_chat.location.entity.UserLocation;
 import com.couple.couple_chat.location.repository.LocationHistoryRepository;
@@ -12,12 +14,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import com.couple.couple_chat.controller.WebSocketController;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,82 +32,66 @@ import java.util.stream.Collectors;
 @Transactional
 public class LocationService {
 
+    private static final int COUPLE_MEMBER_COUNT = 2;
+
     private final UserLocationRepository userLocationRepository;
     private final LocationHistoryRepository locationHistoryRepository;
+    private final LatestLocationTable latestLocationTable;
+    private final LocationWriteBehindBuffer locationWriteBehindBuffer;
+    private final LocationDownsampler locationDownsampler;
 
     /**
      * 위치 공유
+     * 최신 위치 테이블만 즉시 갱신하고, DB 저장은 지연 쓰기 버퍼에서 배치로 처리합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LocationShareResponse shareLocation(UUID senderId, LocationShareRequest request) {
-        log.info("위치 공유 요청: userId={}, roomId={}, lat={}, lng={}", 
+        log.debug("위치 공유 요청: userId={}, roomId={}, lat={}, lng={}", 
                 senderId, request.getRoomId(), request.getLatitude(), request.getLongitude());
 
-        // 현재 위치 업데이트
-        UserLocation userLocation = updateUserLocation(senderId, request);
-
-        // 위치 히스토리 저장
-        LocationHistory locationHistory = saveLocationHistory(senderId, request);
-
-        // WebSocket으로 실시간 전송 (표준 WebSocket 방식)
-        LocationShareResponse response = convertToResponse(locationHistory);
-        // TODO: 표준 WebSocket을 통한 메시지 전송 구현
-        // 현재는 REST API 응답만 반환
-
-        log.info("위치 공유 완료: userId={}, locationId={}", senderId, locationHistory.getId());
-        return response;
-    }
-
-    /**
-     * 사용자 현재 위치 업데이트
-     */
-    private UserLocation updateUserLocation(UUID userId, LocationShareRequest request) {
-        Optional<UserLocation> existingLocation = userLocationRepository.findByUserId(userId);
-        
-        UserLocation userLocation;
-        if (existingLocation.isPresent()) {
-            // 기존 위치 업데이트
-            userLocation = existingLocation.get();
-            userLocation.setLatitude(request.getLatitude());
-            userLocation.setLongitude(request.getLongitude());
-            userLocation.setUpdatedAt(LocalDateTime.now());
-        } else {
-            // 새 위치 생성
-            userLocation = UserLocation.builder()
-                    .userId(userId)
-                    .coupleId(request.getRoomId()) // roomId를 coupleId로 사용
-                    .latitude(request.getLatitude())
-                    .longitude(request.getLongitude())
-                    .isActive(true)
-                    .build();
-        }
-
-        return userLocationRepository.save(userLocation);
-    }
-
-    /**
-     * 위치 히스토리 저장
-     */
-    private LocationHistory saveLocationHistory(UUID userId, LocationShareRequest request) {
         LocationHistory locationHistory = LocationHistory.builder()
-                .userId(userId)
+                .id(UUID.randomUUID())
+                .userId(senderId)
                 .coupleId(request.getRoomId()) // roomId를 coupleId로 사용
                 .roomId(request.getRoomId())
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        return locationHistoryRepository.save(locationHistory);
+        // 현재 위치 갱신 (메모리)
+        latestLocationTable.update(locationHistory);
+
+        // 현재 위치 저장 예약, 히스토리는 이동 여부 필터와 궤적 단순화를 거쳐 저장
+        locationWriteBehindBuffer.updateLatest(locationHistory);
+        locationDownsampler.submit(locationHistory);
+
+        log.debug("위치 공유 완료: userId={}, locationId={}", senderId, locationHistory.getId());
+        return convertToResponse(locationHistory);
     }
 
     /**
      * 커플의 최신 위치 조회
+     * 메모리 테이블에 없는 구성원만 DB 값으로 보완합니다.
      */
     @Transactional(readOnly = true)
     public List<LocationShareResponse> getCoupleLatestLocations(UUID coupleId) {
-        List<UserLocation> locations = userLocationRepository.findLatestByCoupleId(coupleId);
-        
-        return locations.stream()
-                .map(this::convertUserLocationToResponse)
+        List<LocationHistory> cached = latestLocationTable.getByCoupleId(coupleId);
+        if (cached.size() >= COUPLE_MEMBER_COUNT) {
+            return cached.stream()
+                    .sorted(Comparator.comparing(LocationHistory::getCreatedAt).reversed())
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+        }
+
+        Map<UUID, LocationShareResponse> responses = new LinkedHashMap<>();
+        userLocationRepository.findLatestByCoupleId(coupleId)
+                .forEach(location -> responses.put(location.getUserId(), convertUserLocationToResponse(location)));
+        cached.forEach(location -> responses.put(location.getUserId(), convertToResponse(location)));
+
+        return responses.values().stream()
+                .sorted(Comparator.comparing(LocationShareResponse::getTimestamp,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
                 .collect(Collectors.toList());
     }
 
@@ -111,6 +100,11 @@ public class LocationService {
      */
     @Transactional(readOnly = true)
     public LocationShareResponse getUserLocation(UUID userId) {
+        LocationHistory cached = latestLocationTable.getByUserId(userId);
+        if (cached != null) {
+            return convertToResponse(cached);
+        }
+
         UserLocation userLocation = userLocationRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("사용자 위치를 찾을 수 없습니다"));
         
@@ -143,6 +137,34 @@ public class LocationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 최근 위치 히스토리를 사용자별 polyline으로 조회 (지정된 시간 이후)
+     * 좌표와 시각을 모두 이전 지점과의 차이로 인코딩해 응답 크기를 줄입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<LocationTrackResponse> getRecentLocationTracks(UUID coupleId, LocalDateTime since) {
+        Map<UUID, List<LocationHistory>> historyByUser = locationHistoryRepository.findRecentByCoupleId(coupleId, since)
+                .stream()
+                .collect(Collectors.groupingBy(LocationHistory::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        return historyByUser.entrySet().stream()
+                .map(entry -> {
+                    List<LocationHistory> points = entry.getValue();
+                    LocalDateTime startTime = points.get(0).getCreatedAt();
+                    return LocationTrackResponse.builder()
+                            .userId(entry.getKey())
+                            .pointCount(points.size())
+                            .startTime(startTime)
+                            .endTime(points.get(points.size() - 1).getCreatedAt())
+                            .polyline(PolylineCodec.encodeCoordinates(points,
+                                    LocationHistory::getLatitude, LocationHistory::getLongitude))
+                            .timeDeltas(PolylineCodec.encodeDeltas(points,
+                                    point -> Duration.between(startTime, point.getCreatedAt()).getSeconds()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * LocationHistory를 Response로 변환
      */
@@ -0,0 +1,227 @@
+package com.couple.couple_chat.location.service;
+
+import com.couple.couple_chat.location.entity.LocationHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 핑 지연 쓰기(write-behind) 버퍼
+ * - location_history 행은 제한된 큐에 모았다가 배치 크기 또는 주기 도달 시 JDBC 배치 INSERT로 저장합니다.
+ * - user_locations는 사용자별 마지막 위치만 남겨 같은 주기에 배치 UPDATE/INSERT 합니다.
+ * - 큐가 가득 차면 호출 스레드를 잠시 대기시키고, 그래도 공간이 없으면 해당 핑을 버립니다.
+ *   비정상 종료 시 유실 범위는 최대 한 주기 + 큐 용량으로 제한되며, 정상 종료 시에는 모두 저장합니다.
+ */
+@Slf4j
+@Component
+public class LocationWriteBehindBuffer {
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO location_history (id, user_id, couple_id, room_id, latitude, longitude, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_USER_LOCATION_SQL =
+            "UPDATE user_locations SET latitude = ?, longitude = ?, updated_at = ? " +
+            "WHERE user_id = ? AND is_active = true";
+    private static final String INSERT_USER_LOCATION_SQL =
+            "INSERT INTO user_locations (id, user_id, couple_id, latitude, longitude, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, true, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<LocationHistory> historyQueue;
+    private final Map<UUID, LocationHistory> pendingLatest = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public LocationWriteBehindBuffer(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${location.write-behind.capacity:20000}") int capacity,
+                                     @Value("${location.write-behind.batch-size:500}") int batchSize,
+                                     @Value("${location.write-behind.flush-interval-ms:1000}") long flushIntervalMillis,
+                                     @Value("${location.write-behind.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyQueue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        Gauge.builder("location.write-behind.queue.size", historyQueue, BlockingQueue::size)
+                .description("저장 대기 중인 위치 히스토리 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("location.write-behind.flushed")
+                .description("배치로 저장된 위치 히스토리 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("location.write-behind.dropped")
+                .description("큐 포화 또는 저장 실패로 버려진 위치 히스토리 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlushLoop, "location-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 종료 시 남은 위치를 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        flushAll();
+    }
+
+    /**
+     * 사용자 현재 위치(user_locations) 저장 예약, 다음 주기에 사용자당 한 건으로 합쳐 저장
+     */
+    public void updateLatest(LocationHistory location) {
+        pendingLatest.put(location.getUserId(), location);
+    }
+
+    /**
+     * 위치 히스토리 저장 예약
+     *
+     * @return 큐에 적재되었으면 true, 포화 상태가 지속되어 버려졌으면 false
+     */
+    public boolean enqueueHistory(LocationHistory location) {
+        try {
+            if (historyQueue.offer(location, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.warn("위치 저장 큐 포화로 히스토리 유실: userId={}, 큐 크기={}", location.getUserId(), historyQueue.size());
+        return false;
+    }
+
+    private void runFlushLoop() {
+        List<LocationHistory> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 배치 크기에 도달하거나 주기가 지나면 저장
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    LocationHistory first = historyQueue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    historyQueue.drainTo(batch, batchSize - batch.size());
+                }
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("위치 지연 쓰기 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+        // 종료 중 수집한 배치는 바로 저장하고, 큐에 남은 나머지는 stop()에서 저장
+        Thread.interrupted();
+        writeBatch(batch);
+    }
+
+    private void flushAll() {
+        List<LocationHistory> batch = new ArrayList<>(batchSize);
+        do {
+            batch.clear();
+            historyQueue.drainTo(batch, batchSize);
+            writeBatch(batch);
+        } while (!historyQueue.isEmpty());
+    }
+
+    private void writeBatch(List<LocationHistory> batch) {
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, batch, batch.size(), (ps, location) -> {
+                    ps.setObject(1, location.getId());
+                    ps.setObject(2, location.getUserId());
+                    ps.setObject(3, location.getCoupleId());
+                    ps.setObject(4, location.getRoomId());
+                    ps.setDouble(5, location.getLatitude());
+                    ps.setDouble(6, location.getLongitude());
+                    ps.setTimestamp(7, Timestamp.valueOf(location.getCreatedAt()));
+                });
+                flushedCounter.increment(batch.size());
+                log.debug("위치 히스토리 배치 저장: {}건", batch.size());
+            } catch (Exception e) {
+                droppedCounter.increment(batch.size());
+                log.error("위치 히스토리 배치 저장 실패: {}건, error={}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+        writeLatestLocations();
+    }
+
+    /**
+     * 사용자별 마지막 위치를 user_locations에 반영 (없는 사용자는 INSERT)
+     */
+    private void writeLatestLocations() {
+        if (pendingLatest.isEmpty()) {
+            return;
+        }
+        List<LocationHistory> latest = new ArrayList<>(pendingLatest.values());
+        try {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_USER_LOCATION_SQL, latest, latest.size(), (ps, location) -> {
+                ps.setDouble(1, location.getLatitude());
+                ps.setDouble(2, location.getLongitude());
+                ps.setTimestamp(3, Timestamp.valueOf(location.getCreatedAt()));
+                ps.setObject(4, location.getUserId());
+            });
+
+            List<LocationHistory> missing = new ArrayList<>();
+            for (int i = 0; i < latest.size(); i++) {
+                if (updated[0][i] == 0) {
+                    missing.add(latest.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_USER_LOCATION_SQL, missing, missing.size(), (ps, location) -> {
+                    Timestamp timestamp = Timestamp.valueOf(location.getCreatedAt());
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setObject(2, location.getUserId());
+                    ps.setObject(3, location.getCoupleId());
+                    ps.setDouble(4, location.getLatitude());
+                    ps.setDouble(5, location.getLongitude());
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                });
+            }
+
+            // 저장하는 동안 새 위치가 들어온 사용자는 다음 주기에 다시 반영
+            latest.forEach(location -> pendingLatest.remove(location.getUserId(), location));
+        } catch (Exception e) {
+            log.error("사용자 최신 위치 배치 저장 실패: {}건, error={}", latest.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.couple.couple_chat.location.util;
+
+import com.couple.couple_chat.location.entity.LocationHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위치 궤적 단순화 (Douglas-Peucker)
+ * 짧은 구간에서는 위경도를 평면 좌표(미터)로 근사해 점-선분 거리를 계산합니다.
+ */
+public class TrajectorySimplifier {
+
+    private static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    private TrajectorySimplifier() {
+    }
+
+    /**
+     * 두 좌표 사이 거리 (미터, Haversine)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 허용 오차(미터) 안에서 궤적을 단순화, 시작점과 끝점은 항상 유지
+     */
+    public static List<LocationHistory> simplify(List<LocationHistory> points, double toleranceMeters) {
+        if (points.size() <= 2 || toleranceMeters <= 0) {
+            return points;
+        }
+
+        boolean[] keep = new boolean[points.size()];
+        keep[0] = true;
+        keep[points.size() - 1] = true;
+
+        // 재귀 대신 구간 스택 사용
+        int[] stack = new int[points.size() * 2];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = points.size() - 1;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            double maxDistance = 0;
+            int farthest = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distance = perpendicularDistanceMeters(points.get(i), points.get(start), points.get(end));
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest != -1 && maxDistance > toleranceMeters) {
+                keep[farthest] = true;
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+        }
+
+        List<LocationHistory> simplified = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            if (keep[i]) {
+                simplified.add(points.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    private static double perpendicularDistanceMeters(LocationHistory point, LocationHistory start, LocationHistory end) {
+        // start 기준 등장방형 투영 (수 km 이내 구간에서 충분히 정확)
+        double cosLat = Math.cos(Math.toRadians(start.getLatitude()));
+        double ex = Math.toRadians(end.getLongitude() - start.getLongitude()) * cosLat * EARTH_RADIUS_METERS;
+        double ey = Math.toRadians(end.getLatitude() - start.getLatitude()) * EARTH_RADIUS_METERS;
+        double px = Math.toRadians(point.getLongitude() - start.getLongitude()) * cosLat * EARTH_RADIUS_METERS;
+        double py = Math.toRadians(point.getLatitude() - start.getLatitude()) * EARTH_RADIUS_METERS;
+
+        double lengthSquared = ex * ex + ey * ey;
+        if (lengthSquared == 0) {
+            return Math.hypot(px, py);
+        }
+        double t = Math.max(0, Math.min(1, (px * ex + py * ey) / lengthSquared));
+        return Math.hypot(px - t * ex, py - t * ey);
+    }
+}
@@ -0,0 +1,201 @@
+package com.couple.couple_chat.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 간 커플 채팅/위치 메시지 중계 (Redis Pub/Sub)
+ * - 커플마다 하나의 채널을 사용하고, 해당 커플의 구성원이 연결된 노드만 채널을 구독합니다.
+ * - 로컬 상대방 세션에는 즉시 전송하고, 다른 노드로는 한 번만 발행합니다.
+ * - 발행할 프레임은 큐에 모았다가 주기적으로 커플별 한 메시지로 묶어 파이프라인으로 전송합니다.
+ * - 큐는 max-pending-frames로 제한되며, Redis 발행이 밀려 가득 차면 새 프레임의 다른 노드 중계를 포기합니다.
+ *   (로컬 세션 전송은 그대로이며, 채팅 메시지는 저장되어 있으므로 다른 노드의 상대방은 이력 조회로 받을 수 있습니다)
+ *   버린 프레임 수는 chat.relay.dropped 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class CoupleChatRelay implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "couple-chat:relay:";
+
+    private final CoupleSessionRegistry sessionRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+    private final Counter droppedFrames;
+
+    // 이 노드에서 발행한 메시지를 구독 시 다시 전달하지 않기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<UUID, ChannelTopic> subscriptions = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingFrame> pendingFrames;
+    // 마지막으로 버림 경고를 남긴 시각 (경고 로그 폭주 방지)
+    private final AtomicLong lastDropWarnAt = new AtomicLong();
+
+    public CoupleChatRelay(CoupleSessionRegistry sessionRegistry,
+                           StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat.relay.max-batch-size:500}") int maxBatchSize,
+                           @Value("${chat.relay.max-pending-frames:10000}") int maxPendingFrames) {
+        this.sessionRegistry = sessionRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.pendingFrames = new ArrayBlockingQueue<>(maxPendingFrames);
+        this.droppedFrames = Counter.builder("chat.relay.dropped")
+                .description("중계 대기열이 가득 차 다른 노드로 보내지 못한 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.relay.pending", pendingFrames, BlockingQueue::size)
+                .description("다른 노드로 발행 대기 중인 프레임 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커플 상대방에게 메시지 전달 (로컬 세션 즉시 전송 + 다른 노드로 발행 예약)
+     */
+    public void sendToPartners(UUID coupleId, UUID senderId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("중계 메시지 직렬화 실패: coupleId={}, error={}", coupleId, e.getMessage());
+            return;
+        }
+
+        int localCount = sessionRegistry.sendToPartners(coupleId, senderId, new TextMessage(json));
+        if (!pendingFrames.offer(new PendingFrame(coupleId, new RelayFrame(senderId, json)))) {
+            onDropped(coupleId);
+        }
+        log.debug("커플 메시지 로컬 전송: coupleId={}, senderId={}, 전송된 세션 수={}", coupleId, senderId, localCount);
+    }
+
+    /**
+     * 커플 채널 구독 (이미 구독 중이면 무시)
+     */
+    public void subscribe(UUID coupleId) {
+        subscriptions.computeIfAbsent(coupleId, key -> {
+            ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + key);
+            listenerContainer.addMessageListener(this, topic);
+            log.debug("커플 중계 채널 구독: {}", topic.getTopic());
+            return topic;
+        });
+    }
+
+    /**
+     * 이 노드에 커플 구성원이 더 이상 없으면 채널 구독 해제
+     */
+    public void unsubscribeIfIdle(UUID coupleId) {
+        // 같은 키 잠금 안에서 연결 여부를 확인해 동시에 들어온 재연결의 구독을 지우지 않도록 함
+        subscriptions.computeIfPresent(coupleId, (key, topic) -> {
+            if (sessionRegistry.hasLocalMembers(key)) {
+                return topic;
+            }
+            listenerContainer.removeMessageListener(this, topic);
+            log.debug("커플 중계 채널 구독 해제: {}", topic.getTopic());
+            return null;
+        });
+    }
+
+    /**
+     * 대기 중인 프레임을 커플별로 묶어 한 번의 파이프라인으로 발행
+     */
+    @Scheduled(fixedDelayString = "${chat.relay.flush-interval-ms:20}")
+    public void flush() {
+        if (pendingFrames.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<RelayFrame>> framesByCouple = new LinkedHashMap<>();
+        PendingFrame pending;
+        int drained = 0;
+        while (drained < maxBatchSize && (pending = pendingFrames.poll()) != null) {
+            framesByCouple.computeIfAbsent(pending.coupleId(), key -> new ArrayList<>()).add(pending.frame());
+            drained++;
+        }
+
+        Map<String, byte[]> messages = new LinkedHashMap<>();
+        framesByCouple.forEach((coupleId, frames) -> {
+            try {
+                RelayEnvelope envelope = new RelayEnvelope(nodeId, coupleId, frames);
+                messages.put(CHANNEL_PREFIX + coupleId, objectMapper.writeValueAsBytes(envelope));
+            } catch (JsonProcessingException e) {
+                log.error("중계 메시지 직렬화 실패: coupleId={}, error={}", coupleId, e.getMessage());
+            }
+        });
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                messages.forEach((channel, body) ->
+                        connection.publish(channel.getBytes(StandardCharsets.UTF_8), body));
+                return null;
+            });
+            log.debug("커플 중계 메시지 발행: 커플 수={}, 프레임 수={}", messages.size(), drained);
+        } catch (Exception e) {
+            log.error("커플 중계 메시지 발행 실패: 프레임 수={}, error={}", drained, e.getMessage());
+        }
+    }
+
+    private void onDropped(UUID coupleId) {
+        droppedFrames.increment();
+        long now = System.currentTimeMillis();
+        long last = lastDropWarnAt.get();
+        if (now - last >= 10_000 && lastDropWarnAt.compareAndSet(last, now)) {
+            log.warn("중계 대기열 가득 참, 다른 노드 중계 생략: coupleId={}, 누적 버림={}", coupleId, (long) droppedFrames.count());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 메시지를 이 노드의 상대방 세션에 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayEnvelope envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            for (RelayFrame frame : envelope.frames()) {
+                sessionRegistry.sendToPartners(envelope.coupleId(), frame.senderId(), new TextMessage(frame.payload()));
+            }
+        } catch (Exception e) {
+            log.error("커플 중계 메시지 처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    public record RelayEnvelope(String origin, UUID coupleId, List<RelayFrame> frames) {
+    }
+
+    public record RelayFrame(UUID senderId, String payload) {
+    }
+
+    private record PendingFrame(UUID coupleId, RelayFrame frame) {
+    }
+}
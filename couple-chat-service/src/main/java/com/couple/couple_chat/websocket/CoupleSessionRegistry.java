@@ -0,0 +1,206 @@
+package com.couple.couple_chat.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 WebSocket 세션 레지스트리
+ * - 세션 ID, 사용자 ID, 커플 ID 기준으로 색인하며 한 사용자의 여러 기기 접속을 허용합니다.
+ * - 등록/해제는 O(1)이고, 커플 상대방 전송 비용은 상대방 세션 수에만 비례합니다.
+ * - 세션은 ConcurrentWebSocketSessionDecorator로 감싸 여러 스레드에서 안전하게 전송합니다.
+ */
+@Slf4j
+@Component
+public class CoupleSessionRegistry {
+
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> usersByCouple = new ConcurrentHashMap<>();
+
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimitBytes;
+
+    public CoupleSessionRegistry(MeterRegistry meterRegistry,
+                                 @Value("${chat.websocket.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                                 @Value("${chat.websocket.buffer-size-limit-bytes:524288}") int bufferSizeLimitBytes) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+
+        Gauge.builder("chat.websocket.sessions", sessions, Map::size)
+                .description("이 노드에 연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.users", sessionsByUser, Map::size)
+                .description("이 노드에 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.couples", usersByCouple, Map::size)
+                .description("이 노드에 한 명 이상 연결된 커플 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 등록
+     *
+     * @param coupleId 커플이 없거나 조회에 실패한 경우 null (사용자 색인만 등록)
+     */
+    public void register(WebSocketSession session, UUID userId, UUID coupleId) {
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimitBytes);
+        sessions.put(session.getId(), new SessionEntry(concurrentSession, userId, coupleId));
+
+        // 사용자 색인과 커플 색인 갱신을 같은 사용자 키 잠금 안에서 처리해 해제와 경합하지 않도록 함
+        sessionsByUser.compute(userId, (key, userSessions) -> {
+            Set<WebSocketSession> updated = userSessions != null ? userSessions : ConcurrentHashMap.newKeySet();
+            updated.add(concurrentSession);
+            if (coupleId != null) {
+                usersByCouple.computeIfAbsent(coupleId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+            return updated;
+        });
+        log.info("WebSocket 세션 등록: sessionId={}, userId={}, coupleId={}", session.getId(), userId, coupleId);
+    }
+
+    /**
+     * 세션 해제
+     * 사용자의 마지막 세션이 닫히면 사용자/커플 색인에서도 제거합니다.
+     *
+     * @return 해제된 세션의 커플 ID (등록되지 않은 세션이거나 커플이 없으면 null)
+     */
+    public UUID unregister(String sessionId) {
+        SessionEntry entry = sessions.remove(sessionId);
+        if (entry == null) {
+            return null;
+        }
+
+        sessionsByUser.computeIfPresent(entry.userId(), (userId, userSessions) -> {
+            userSessions.remove(entry.session());
+            if (!userSessions.isEmpty()) {
+                return userSessions;
+            }
+            if (entry.coupleId() != null) {
+                usersByCouple.computeIfPresent(entry.coupleId(), (coupleId, members) -> {
+                    members.remove(userId);
+                    return members.isEmpty() ? null : members;
+                });
+            }
+            return null;
+        });
+        log.info("WebSocket 세션 해제: sessionId={}, userId={}", sessionId, entry.userId());
+        return entry.coupleId();
+    }
+
+    /**
+     * 이 노드에 해당 커플의 구성원이 한 명 이상 연결되어 있는지 여부
+     */
+    public boolean hasLocalMembers(UUID coupleId) {
+        return usersByCouple.containsKey(coupleId);
+    }
+
+    /**
+     * 커플 상대방의 모든 세션에 전송 (보낸 사용자의 세션은 제외)
+     *
+     * @return 전송에 성공한 세션 수
+     */
+    public int sendToPartners(UUID coupleId, UUID senderId, TextMessage message) {
+        Set<UUID> members = usersByCouple.get(coupleId);
+        if (members == null) {
+            return 0;
+        }
+
+        int sentCount = 0;
+        for (UUID memberId : members) {
+            if (!memberId.equals(senderId)) {
+                sentCount += sendToUser(memberId, message);
+            }
+        }
+        return sentCount;
+    }
+
+    /**
+     * 사용자의 모든 세션에 전송
+     *
+     * @return 전송에 성공한 세션 수
+     */
+    public int sendToUser(UUID userId, TextMessage message) {
+        Set<WebSocketSession> userSessions = sessionsByUser.get(userId);
+        if (userSessions == null) {
+            return 0;
+        }
+
+        int sentCount = 0;
+        for (WebSocketSession userSession : userSessions) {
+            if (send(userSession, message)) {
+                sentCount++;
+            }
+        }
+        return sentCount;
+    }
+
+    /**
+     * 핸들러에서 받은 세션으로 응답 전송
+     * 등록된 세션이면 동시 전송에 안전한 래퍼를 사용합니다.
+     */
+    public boolean reply(WebSocketSession session, TextMessage message) {
+        SessionEntry entry = sessions.get(session.getId());
+        return send(entry != null ? entry.session() : session, message);
+    }
+
+    public WebSocketSession getSession(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.session() : null;
+    }
+
+    public Collection<WebSocketSession> getUserSessions(UUID userId) {
+        Set<WebSocketSession> userSessions = sessionsByUser.get(userId);
+        return userSessions != null ? List.copyOf(userSessions) : List.of();
+    }
+
+    public UUID getCoupleId(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.coupleId() : null;
+    }
+
+    public Set<String> getSessionIds() {
+        return Set.copyOf(sessions.keySet());
+    }
+
+    public Collection<WebSocketSession> getAllSessions() {
+        return sessions.values().stream().map(SessionEntry::session).toList();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getUserCount() {
+        return sessionsByUser.size();
+    }
+
+    private boolean send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (Exception e) {
+            log.error("WebSocket 전송 실패: sessionId={}, error={}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private record SessionEntry(WebSocketSession session, UUID userId, UUID coupleId) {
+    }
+}
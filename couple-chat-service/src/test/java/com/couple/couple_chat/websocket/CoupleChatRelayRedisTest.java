@@ -0,0 +1,142 @@
+package com.couple.couple_chat.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.socket.TextMessage;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 노드(각자 Redis 연결과 구독 컨테이너를 가진 CoupleChatRelay) 사이의 중계를 실제 Redis로 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CoupleChatRelayRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(Node::stop);
+    }
+
+    @Test
+    void relaysFramesToOtherNodesOnly() throws InterruptedException {
+        UUID coupleId = UUID.randomUUID();
+        UUID senderId = UUID.randomUUID();
+        Node sender = node(100);
+        Node receiver = node(100);
+        sender.relay().subscribe(coupleId);
+        receiver.relay().subscribe(coupleId);
+        awaitSubscribers(coupleId, 2);
+
+        sender.relay().sendToPartners(coupleId, senderId, Map.of("text", "hi"));
+        sender.relay().flush();
+
+        verify(receiver.registry(), timeout(5_000)).sendToPartners(eq(coupleId), eq(senderId),
+                argThat(message -> "{\"text\":\"hi\"}".equals(message.getPayload())));
+        // 발행한 노드는 로컬 전송 한 번만 하고, 자기 발행 메시지는 다시 전달하지 않음
+        Thread.sleep(200);
+        verify(sender.registry(), times(1)).sendToPartners(eq(coupleId), eq(senderId), any(TextMessage.class));
+    }
+
+    @Test
+    void dropsFramesBeyondPendingCapacity() throws InterruptedException {
+        UUID coupleId = UUID.randomUUID();
+        UUID senderId = UUID.randomUUID();
+        Node sender = node(2);
+        Node receiver = node(100);
+        receiver.relay().subscribe(coupleId);
+        awaitSubscribers(coupleId, 1);
+
+        for (int i = 0; i < 3; i++) {
+            sender.relay().sendToPartners(coupleId, senderId, Map.of("seq", i));
+        }
+        sender.relay().flush();
+
+        verify(receiver.registry(), timeout(5_000).times(2)).sendToPartners(eq(coupleId), eq(senderId), any(TextMessage.class));
+        Thread.sleep(200);
+        verify(receiver.registry(), never()).sendToPartners(eq(coupleId), eq(senderId),
+                argThat(message -> "{\"seq\":2}".equals(message.getPayload())));
+        // 중계는 버려도 로컬 전송은 모두 수행
+        verify(sender.registry(), times(3)).sendToPartners(eq(coupleId), eq(senderId), any(TextMessage.class));
+        assertEquals(1.0, sender.meterRegistry().get("chat.relay.dropped").counter().count());
+    }
+
+    private Node node(int maxPendingFrames) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        CoupleSessionRegistry registry = mock(CoupleSessionRegistry.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CoupleChatRelay relay = new CoupleChatRelay(registry, new StringRedisTemplate(connectionFactory), listenerContainer,
+                new ObjectMapper(), meterRegistry, 500, maxPendingFrames);
+        Node node = new Node(relay, registry, meterRegistry, connectionFactory, listenerContainer);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 구독은 비동기로 완료되므로 채널 구독자 수가 기대값이 될 때까지 대기
+     */
+    private void awaitSubscribers(UUID coupleId, long expected) throws InterruptedException {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(nodes.get(0).connectionFactory());
+        byte[] channel = ("couple-chat:relay:" + coupleId).getBytes(StandardCharsets.UTF_8);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Object reply = redisTemplate.execute((RedisCallback<Object>) connection ->
+                    connection.execute("PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), channel));
+            if (reply instanceof List<?> values && values.size() == 2 && values.get(1) instanceof Long count
+                    && count >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("구독이 완료되지 않았습니다: " + coupleId);
+    }
+
+    private record Node(CoupleChatRelay relay,
+                        CoupleSessionRegistry registry,
+                        SimpleMeterRegistry meterRegistry,
+                        LettuceConnectionFactory connectionFactory,
+                        RedisMessageListenerContainer listenerContainer) {
+
+        void stop() {
+            listenerContainer.stop();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -109,6 +109,8 @@ public class GatewayConfig {
                 corsConfig.setAllowedOriginPatterns(java.util.List.of("*"));
                 corsConfig.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
                 corsConfig.setAllowedHeaders(java.util.List.of("*"));
+                // 채팅 기존 목록 API의 다음 페이지/폐기 예정 헤더
+                corsConfig.setExposedHeaders(java.util.List.of("X-Has-Next", "X-Next-Cursor", "Deprecation", "Link"));
                 corsConfig.setAllowCredentials(true);
 
                 UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,27 +1,27 @@
 package com.couple.gateway.filter;
 
+import com.couple.common.security.JwtPrincipal;
 import com.couple.common.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.context.ApplicationContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
-    @Autowired
-    private ApplicationContext applicationContext;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    public JwtAuthenticationFilter() {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
         super(Config.class);
+        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @Override
@@ -46,19 +46,16 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             String token = authHeader.substring(7);
 
             try {
-                // ApplicationContext를 통해 JwtTokenProvider 가져오기
-                JwtTokenProvider jwtTokenProvider = applicationContext.getBean(JwtTokenProvider.class);
-
-                // JWT 토큰 검증
-                if (!jwtTokenProvider.validateToken(token)) {
+                // JWT 토큰 검증 및 사용자 ID/커플 ID 추출 (한 번만 파싱)
+                Optional<JwtPrincipal> principal = jwtTokenProvider.resolvePrincipal(token);
+                if (principal.isEmpty()) {
                     log.warn("유효하지 않은 JWT 토큰입니다. 경로: {}", path);
                     exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                     return exchange.getResponse().setComplete();
                 }
 
-                // 사용자 ID와 커플 ID 추출
-                UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-                UUID coupleId = jwtTokenProvider.getCoupleIdFromToken(token);
+                UUID userId = principal.get().userId();
+                UUID coupleId = principal.get().coupleId();
 
                 // 헤더에 사용자 정보 추가
                 ServerHttpRequest modifiedRequest = request.mutate()
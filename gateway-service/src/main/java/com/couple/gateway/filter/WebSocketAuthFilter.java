@@ -1,5 +1,6 @@
 package com.couple.gateway.filter;
 
+import com.couple.common.security.JwtPrincipal;
 import com.couple.common.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -32,10 +34,13 @@ public class WebSocketAuthFilter extends AbstractGatewayFilterFactory<WebSocketA
             // WebSocket 연결 경로인지 확인
             if (path.startsWith("/ws")) {
                 String token = extractTokenFromQuery(request);
+                Optional<JwtPrincipal> principal = token != null
+                        ? jwtTokenProvider.resolvePrincipal(token)
+                        : Optional.empty();
 
-                if (token != null && jwtTokenProvider.validateToken(token)) {
-                    UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-                    UUID coupleId = jwtTokenProvider.getCoupleIdFromToken(token);
+                if (principal.isPresent()) {
+                    UUID userId = principal.get().userId();
+                    UUID coupleId = principal.get().coupleId();
 
                     // 사용자 정보를 헤더에 추가 (닉네임은 유저 ID와 동일하게 설정)
                     ServerHttpRequest modifiedRequest = request.mutate()
@@ -1,8 +1,10 @@
 package com.couple.question_answer;
 
+import com.couple.common.http.WebClientFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
@@ -29,8 +31,14 @@ public class QuestionAnswerApplication implements SchedulingConfigurer {
     }
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClientFactory webClientFactory(WebClient.Builder webClientBuilder, Environment environment) {
+        return new WebClientFactory(webClientBuilder, environment);
+    }
+
+    // 내부 서비스 호출용 (커넥션 풀 설정은 http.client.internal.*)
+    @Bean
+    public WebClient webClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("internal");
     }
     
     @Bean
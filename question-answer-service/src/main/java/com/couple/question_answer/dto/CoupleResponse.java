@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -27,5 +28,6 @@ public class CoupleResponse {
         private String name;
         private String gender;
         private Map<String, Double> preferences;
+        private Instant updatedAt; // 저장된 벡터의 마지막 변경 시각, 벡터가 없으면 null
     }
 } 
\ No newline at end of file
@@ -1,21 +1,28 @@
 package com.couple.question_answer.service;
 
 import com.couple.common.dto.ApiResponse;
+import com.couple.common.transaction.AfterCommit;
 import com.couple.question_answer.dto.CoupleInfoResponse;
 import com.couple.question_answer.dto.CoupleResponse;
 import com.couple.question_answer.dto.UserVectorRequest;
 import com.couple.question_answer.dto.UserVectorResponse;
 import com.couple.question_answer.entity.UserVector;
 import com.couple.question_answer.repository.UserVectorRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -24,8 +31,12 @@ import java.util.UUID;
 @Transactional
 public class UserVectorService {
 
+    private static final String USER_VECTOR_CHANGED_CHANNEL = "user-vector:changed";
+
     private final UserVectorRepository userVectorRepository;
     private final WebClient webClient;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
     
     @Value("${user-couple-service.url:http://localhost:8081}")
     private String userCoupleServiceUrl;
@@ -41,6 +52,7 @@ public class UserVectorService {
         // 초기 벡터 생성 (모든 값이 0.0)
         UserVector userVector = UserVector.createInitialVector(userId);
         UserVector savedVector = userVectorRepository.save(userVector);
+        publishVectorChanged(savedVector);
 
         log.info("사용자 벡터 생성 완료: userId={}, id={}", userId, savedVector.getId());
         return convertToResponse(savedVector);
@@ -81,6 +93,7 @@ public class UserVectorService {
         }
 
         UserVector savedVector = userVectorRepository.save(userVector);
+        publishVectorChanged(savedVector);
         log.info("사용자 벡터 업데이트 완료: userId={}, id={}", userId, savedVector.getId());
 
         return convertToResponse(savedVector);
@@ -104,6 +117,7 @@ public class UserVectorService {
 
         userVector.updateVector(vectorKey, value);
         UserVector savedVector = userVectorRepository.save(userVector);
+        publishVectorChanged(savedVector);
 
         log.info("특정 벡터 업데이트 완료: userId={}, vectorKey={}, value={}", userId, vectorKey, value);
         return convertToResponse(savedVector);
@@ -126,6 +140,8 @@ public class UserVectorService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자 벡터를 찾을 수 없습니다: " + userId));
 
         userVectorRepository.delete(userVector);
+        // 삭제된 사용자는 조회 시 초기 벡터로 응답하므로 초기 벡터로 알림
+        publishVectorChanged(UserVector.createInitialVector(userId));
         log.info("사용자 벡터 삭제 완료: userId={}", userId);
     }
 
@@ -176,14 +192,15 @@ public class UserVectorService {
 
         try {
             // 사용자 벡터 조회
-            UserVector userVector = userVectorRepository.findByUserIdString(userInfo.getUserId().toString())
-                    .orElseGet(() -> UserVector.createInitialVector(userInfo.getUserId()));
+            Optional<UserVector> storedVector = userVectorRepository.findByUserIdString(userInfo.getUserId().toString());
+            UserVector userVector = storedVector.orElseGet(() -> UserVector.createInitialVector(userInfo.getUserId()));
 
             return CoupleResponse.CoupleUserVectorResponse.builder()
                     .userId(userInfo.getUserId())
                     .name(userInfo.getName())
                     .gender(userInfo.getGender())
                     .preferences(userVector.getVectors())
+                    .updatedAt(storedVector.map(this::updatedAtOf).orElse(null))
                     .build();
 
         } catch (Exception e) {
@@ -199,6 +216,41 @@ public class UserVectorService {
         }
     }
 
+    /**
+     * 취향 벡터 변경을 트랜잭션 커밋 후 Redis 채널로 알림 (schedule-meeting-service 커플 취향 스냅샷 갱신용, 발행 실패는 무시)
+     * 메시지에는 변경 시점의 벡터 전체를 담아 수신 측이 다시 조회하지 않도록 합니다.
+     */
+    private void publishVectorChanged(UserVector userVector) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(
+                    new UserVectorChangedEvent(userVector.getUserId(), userVector.getVectors(), updatedAtOf(userVector)));
+        } catch (JsonProcessingException e) {
+            log.warn("취향 벡터 변경 알림 생성 실패: userId={}, error={}", userVector.getUserId(), e.getMessage());
+            return;
+        }
+
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.convertAndSend(USER_VECTOR_CHANGED_CHANNEL, message);
+            } catch (Exception e) {
+                log.warn("취향 벡터 변경 알림 발행 실패: userId={}, error={}", userVector.getUserId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 벡터 변경 시각 (커플 벡터 응답과 변경 알림이 같은 기준을 사용하도록 Instant로 변환)
+     */
+    private Instant updatedAtOf(UserVector userVector) {
+        return userVector.getUpdatedAt() != null
+                ? userVector.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.now();
+    }
+
+    record UserVectorChangedEvent(UUID userId, Map<String, Double> vectors, Instant updatedAt) {
+    }
+
     private UserVectorResponse convertToResponse(UserVector userVector) {
         return UserVectorResponse.builder()
                 .id(userVector.getId())
@@ -3,9 +3,11 @@ package com.couple.schedule_meeting;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.couple.schedule_meeting.repository")
+@EnableScheduling
 public class ScheduleMeetingApplication {
 
     public static void main(String[] args) {
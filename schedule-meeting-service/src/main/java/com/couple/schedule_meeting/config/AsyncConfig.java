@@ -0,0 +1,43 @@
+package com.couple.schedule_meeting.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 처리용 스레드 풀
+ * - recommendationExecutor: 데이트 코스 추천 파이프라인의 블로킹 단계(커플 정보 조회, 장소 좌표 조회, MongoDB 저장)
+ * - calendarExecutor: 기간 달력 SSE 스트리밍
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor recommendationExecutor(
+            @Value("${meeting.recommend.executor.core-size:4}") int coreSize,
+            @Value("${meeting.recommend.executor.max-size:16}") int maxSize,
+            @Value("${meeting.recommend.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommend-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor calendarExecutor(
+            @Value("${schedule.calendar.executor.core-size:2}") int coreSize,
+            @Value("${schedule.calendar.executor.max-size:8}") int maxSize,
+            @Value("${schedule.calendar.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("calendar-");
+        return executor;
+    }
+}
@@ -0,0 +1,61 @@
+package com.couple.schedule_meeting.config;
+
+import com.couple.schedule_meeting.entity.CouplePreferenceSnapshot;
+import com.couple.schedule_meeting.entity.Route;
+import com.couple.schedule_meeting.entity.TmpMeeting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.time.Duration;
+
+/**
+ * MongoDB TTL 인덱스 생성
+ * - tmp_meetings: createdAt 기준 meeting.tmp.ttl-hours 후 삭제 (저장되지 않은 추천 결과 정리)
+ * - routes: expireAt 시각에 삭제 (미팅으로 저장된 경로는 expireAt이 없어 유지)
+ * 커플 취향 스냅샷의 구성원 ID 조회 인덱스도 함께 생성합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${meeting.tmp.ttl-hours:24}")
+    private long tmpTtlHours;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndexes() {
+        try {
+            mongoTemplate.indexOps(TmpMeeting.class).ensureIndex(new Index()
+                    .on("createdAt", Sort.Direction.ASC)
+                    .named("createdAt_ttl")
+                    .expire(Duration.ofHours(tmpTtlHours)));
+            mongoTemplate.indexOps(Route.class).ensureIndex(new Index()
+                    .on("expireAt", Sort.Direction.ASC)
+                    .named("expireAt_ttl")
+                    .expire(Duration.ZERO));
+            log.info("MongoDB TTL 인덱스 확인 완료: tmp_meetings {}시간", tmpTtlHours);
+        } catch (Exception e) {
+            log.error("MongoDB TTL 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLookupIndexes() {
+        try {
+            mongoTemplate.indexOps(CouplePreferenceSnapshot.class).ensureIndex(new Index()
+                    .on("members.userId", Sort.Direction.ASC)
+                    .named("members_userId"));
+        } catch (Exception e) {
+            log.error("MongoDB 조회 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.couple.schedule_meeting.config;
+
+import com.couple.common.resilience.ResiliencePolicy;
+import com.couple.common.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 외부 API별 기본 호출 정책 (resilience.{이름}.* 설정으로 변경 가능)
+ * - sk-transit / sk-pedestrian: SK 대중교통/보행자 경로 (유료 호출이라 헤지 없음)
+ * - kakao-local: Kakao 좌표 → 행정구역 (멱등 GET, 헤지 사용)
+ * - kma-forecast: 기상청 단기예보 (응답 지연 편차가 커서 헤지 사용)
+ * - planner: 외부 추천 API (LLM 호출이라 시간 제한을 길게, 헤지 없음)
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String SK_TRANSIT = "sk-transit";
+    public static final String SK_PEDESTRIAN = "sk-pedestrian";
+    public static final String KAKAO_LOCAL = "kakao-local";
+    public static final String KMA_FORECAST = "kma-forecast";
+    public static final String PLANNER = "planner";
+
+    @Bean
+    public ResilienceRegistry resilienceRegistry(MeterRegistry meterRegistry, Environment environment) {
+        ResilienceRegistry registry = new ResilienceRegistry(meterRegistry, environment);
+        registry.register(SK_TRANSIT, ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(5))
+                .maxConcurrentCalls(20)
+                .build());
+        registry.register(SK_PEDESTRIAN, ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(3))
+                .maxConcurrentCalls(20)
+                .build());
+        registry.register(KAKAO_LOCAL, ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(2))
+                .maxConcurrentCalls(32)
+                .hedgeDelay(Duration.ofMillis(500))
+                .build());
+        registry.register(KMA_FORECAST, ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(10))
+                .maxConcurrentCalls(8)
+                .hedgeDelay(Duration.ofSeconds(3))
+                .build());
+        registry.register(PLANNER, ResiliencePolicy.builder()
+                .timeout(Duration.ofSeconds(30))
+                .maxConcurrentCalls(8)
+                .minimumCalls(5)
+                .openDuration(Duration.ofSeconds(60))
+                .build());
+        return registry;
+    }
+}
@@ -1,16 +1,44 @@
 package com.couple.schedule_meeting.config;
 
+import com.couple.common.http.WebClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.reactive.function.client.WebClient;
 
+/**
+ * upstream별 WebClient (커넥션 풀 분리, 설정은 http.client.{이름}.*)
+ * - webClient: 내부 서비스 호출 (user-couple-service, question-answer-service)
+ * - kakaoWebClient: Kakao 로컬 API
+ * - skWebClient: SK 대중교통/보행자 경로 API
+ * - plannerWebClient: 외부 추천 API
+ * 주입받는 필드 이름으로 빈을 구분합니다.
+ */
 @Configuration
 public class WebClientConfig {
-    
+
+    @Bean
+    public WebClientFactory webClientFactory(WebClient.Builder webClientBuilder, Environment environment) {
+        return new WebClientFactory(webClientBuilder, environment);
+    }
+
+    @Bean
+    public WebClient webClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("internal");
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("kakao", "https://dapi.kakao.com");
+    }
+
+    @Bean
+    public WebClient skWebClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("sk", "https://apis.openapi.sk.com");
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl("https://dapi.kakao.com")
-                .build();
+    public WebClient plannerWebClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("planner");
     }
-} 
\ No newline at end of file
+}
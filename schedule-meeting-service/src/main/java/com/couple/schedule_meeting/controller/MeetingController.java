@@ -9,6 +9,8 @@ import com.couple.schedule_meeting.service.WeatherCardService;
 import com.couple.schedule_meeting.service.MeetingRecommendationService;
 import com.couple.schedule_meeting.service.MeetingSaveService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,9 +20,12 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import com.couple.schedule_meeting.dto.MeetingCourseRecommendRequest;
 import com.couple.schedule_meeting.dto.MeetingSaveRequest;
@@ -39,6 +44,10 @@ public class MeetingController {
     private final MeetingSaveService meetingSaveService;
     private final com.couple.schedule_meeting.repository.TmpMeetingRepository tmpMeetingRepository;
     private final com.couple.schedule_meeting.service.DirectionService directionService;
+    private final com.couple.schedule_meeting.service.RouteStore routeStore;
+
+    @Value("${meeting.recommend.stream-timeout-ms:120000}")
+    private long recommendStreamTimeoutMillis;
 
     @GetMapping("/weather-cards")
     public ResponseEntity<ApiResponse<List<WeatherCardService.WeatherCardResponse>>> getWeatherCards(@RequestParam float lat, @RequestParam float lon) throws Exception {
@@ -75,6 +84,75 @@ public class MeetingController {
         }
     }
     
+    /**
+     * 데이트 코스 추천 (SSE 스트리밍, POST /api/meetings/recommend?stream=true)
+     * 이벤트 순서: timeSlots.provisional(로컬 추천, 장소 인덱스 준비 시) → timeSlots(추천 API 응답 즉시, 실패 시 로컬 추천)
+     * → route.segment(구간이 조회될 때마다) → completed 또는 error
+     * completed/error 이벤트의 본문은 기존 응답과 같은 ApiResponse 형식입니다.
+     * 클라이언트 연결 종료/시간 초과 시 추천 파이프라인을 취소합니다. (이후 단계와 tmp_meetings 저장을 하지 않음)
+     */
+    @PostMapping(value = "/recommend", params = "stream=true", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter recommendCourseStream(
+            @RequestBody MeetingCourseRecommendRequest request,
+            @RequestHeader("X-User-ID") String userId) {
+        
+        SseEmitter emitter = new SseEmitter(recommendStreamTimeoutMillis);
+        CompletableFuture<TmpMeeting> pipeline = meetingRecommendationService.createMeetingRecommendationAsync(request, userId,
+                        new MeetingRecommendationService.RecommendationListener() {
+                            @Override
+                            public void onProvisionalTimeSlots(List<TmpMeeting.TimeSlot> timeSlots, List<String> stores) {
+                                sendEvent(emitter, "timeSlots.provisional", Map.of("timeSlots", timeSlots, "stores", stores));
+                            }
+
+                            @Override
+                            public void onTimeSlots(List<TmpMeeting.TimeSlot> timeSlots, List<String> stores) {
+                                sendEvent(emitter, "timeSlots", Map.of("timeSlots", timeSlots, "stores", stores));
+                            }
+
+                            @Override
+                            public void onRouteSegment(WaypointRouteResponse.RouteSegment segment) {
+                                sendEvent(emitter, "route.segment", segment);
+                            }
+                        });
+        emitter.onTimeout(() -> {
+            log.warn("데이트 코스 추천 스트림 시간 초과: userId={}", userId);
+            pipeline.cancel(true);
+        });
+        emitter.onError(error -> {
+            log.debug("데이트 코스 추천 스트림 연결 오류: userId={}, error={}", userId, error.getMessage());
+            pipeline.cancel(true);
+        });
+        // 정상 완료 후에는 이미 끝난 future이므로 영향 없음
+        emitter.onCompletion(() -> pipeline.cancel(true));
+        pipeline.whenComplete((tmpMeeting, error) -> {
+                    if (pipeline.isCancelled()) {
+                        return;
+                    }
+                    if (error != null) {
+                        log.error("데이트 코스 추천 처리 중 오류: {}", error.getMessage(), error);
+                        sendEvent(emitter, "error", ApiResponse.error("데이트 코스 추천 처리 중 오류가 발생했습니다."));
+                    } else {
+                        MeetingRecommendResponse response = MeetingRecommendResponse.builder()
+                                .documentId(tmpMeeting.getId())
+                                .message("데이트 코스 추천이 완료되었습니다.")
+                                .value(tmpMeeting)
+                                .build();
+                        sendEvent(emitter, "completed", ApiResponse.success("데이트 코스 추천이 완료되었습니다.", response));
+                    }
+                    emitter.complete();
+                });
+        return emitter;
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 등, 파이프라인은 emitter 콜백(onError/onCompletion)으로 취소됨
+            log.debug("SSE 이벤트 전송 실패: event={}, error={}", name, e.getMessage());
+        }
+    }
+    
     @GetMapping("/recommend/{tmpMeetingId}")
     public ResponseEntity<ApiResponse<TmpMeeting>> getTmpMeeting(
             @PathVariable String tmpMeetingId) {
@@ -89,7 +167,7 @@ public class MeetingController {
             }
             
             log.info("TmpMeeting 조회 성공: tmpMeetingId={}", tmpMeetingId);
-            return ResponseEntity.ok(ApiResponse.success("TmpMeeting 조회 성공", tmpMeeting));
+            return ResponseEntity.ok(ApiResponse.success("TmpMeeting 조회 성공", routeStore.hydrate(tmpMeeting)));
             
         } catch (Exception e) {
             log.error("TmpMeeting 조회 중 오류: {}", e.getMessage(), e);
@@ -100,13 +178,15 @@ public class MeetingController {
     @GetMapping("/{meetingId}")
     public ResponseEntity<ApiResponse<MeetingResponse>> getMeeting(
             @PathVariable String meetingId,
-            @RequestHeader("X-Couple-ID") String coupleId) {
+            @RequestHeader("X-Couple-ID") String coupleId,
+            @RequestParam(value = "view", defaultValue = "full") String view) {
         
         try {
             UUID meetingUuid = UUID.fromString(meetingId);
             UUID coupleUuid = UUID.fromString(coupleId);
             
-            MeetingResponse response = meetingService.getMeetingById(meetingUuid, coupleUuid);
+            // view=summary: 경로 형상 없이 요약/구간 메타데이터만 반환 (형상은 구간별 API로 조회)
+            MeetingResponse response = meetingService.getMeetingById(meetingUuid, coupleUuid, "summary".equals(view));
             return ResponseEntity.ok(ApiResponse.success("데이트 일정 조회 성공", response));
             
         } catch (IllegalArgumentException e) {
@@ -118,6 +198,33 @@ public class MeetingController {
         }
     }
 
+    @GetMapping("/{meetingId}/route/segments/{sequence}")
+    public ResponseEntity<ApiResponse<Object>> getMeetingRouteSegment(
+            @PathVariable String meetingId,
+            @PathVariable int sequence,
+            @RequestHeader("X-Couple-ID") String coupleId,
+            @RequestParam(value = "encoding", defaultValue = "polyline") String encoding) {
+        
+        try {
+            UUID meetingUuid = UUID.fromString(meetingId);
+            UUID coupleUuid = UUID.fromString(coupleId);
+            
+            // encoding=polyline: 형상을 encoded polyline(1e-6)으로, plain: "lon,lat lon,lat" 좌표열로 반환
+            Object legs = meetingService.getRouteSegmentLegs(meetingUuid, coupleUuid, sequence, !"plain".equals(encoding));
+            if (legs == null) {
+                return ResponseEntity.status(404).body(ApiResponse.error("경로 구간을 찾을 수 없습니다."));
+            }
+            return ResponseEntity.ok(ApiResponse.success("경로 구간 조회 성공", legs));
+            
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 UUID 형식: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error("잘못된 UUID 형식입니다."));
+        } catch (Exception e) {
+            log.error("경로 구간 조회 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("경로 구간 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<String>> saveMeeting(
             @RequestBody MeetingSaveRequest request,
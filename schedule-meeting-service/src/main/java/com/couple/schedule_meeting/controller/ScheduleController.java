@@ -8,22 +8,39 @@ import com.couple.schedule_meeting.entity.Schedule;
 import com.couple.schedule_meeting.service.ScheduleService;
 import com.couple.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/schedules")
 @RequiredArgsConstructor
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final ThreadPoolTaskExecutor calendarExecutor;
     private static final Logger log = LoggerFactory.getLogger(ScheduleController.class);
 
+    @Value("${schedule.calendar.max-range-months:24}")
+    private int maxRangeMonths;
+
+    @Value("${schedule.calendar.stream-timeout-ms:30000}")
+    private long calendarStreamTimeoutMillis;
+
     @PostMapping
     public ResponseEntity<ScheduleResponse> createSchedule(
             @RequestBody ScheduleCreateRequest request,
@@ -104,4 +121,75 @@ public class ScheduleController {
                 .body(ApiResponse.error("달력 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/calendar/range", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "기간 달력 조회", description = "from ~ to 월의 달력을 월 단위 SSE 이벤트(month)로 순서대로 전송합니다.")
+    public SseEmitter getCalendarRange(
+            @Parameter(description = "커플 ID", example = "123e4567-e89b-12d3-a456-426614174000") @RequestHeader("X-Couple-ID") String coupleId,
+            @Parameter(description = "사용자 ID", example = "123e4567-e89b-12d3-a456-426614174000") @RequestHeader("X-User-ID") String userId,
+            @Parameter(description = "시작 년월", example = "2024-10") @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "종료 년월", example = "2025-03") @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        SseEmitter emitter = new SseEmitter(calendarStreamTimeoutMillis);
+        log.info("기간 달력 조회 API 호출: coupleId={}, userId={}, from={}, to={}", coupleId, userId, from, to);
+
+        if (from.getYear() < 1900 || to.getYear() > 2100 || from.isAfter(to)
+                || ChronoUnit.MONTHS.between(from, to) >= maxRangeMonths) {
+            sendEvent(emitter, "error", ApiResponse.error("유효하지 않은 기간입니다: " + from + " ~ " + to));
+            emitter.complete();
+            return emitter;
+        }
+
+        // 시간 초과/연결 오류 후에는 남은 월을 조회하지 않음
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onTimeout(() -> {
+            log.warn("기간 달력 스트림 시간 초과: coupleId={}, from={}, to={}", coupleId, from, to);
+            closed.set(true);
+        });
+        emitter.onError(error -> {
+            log.debug("기간 달력 스트림 연결 오류: coupleId={}, error={}", coupleId, error.getMessage());
+            closed.set(true);
+        });
+
+        try {
+            calendarExecutor.execute(() -> streamCalendarRange(emitter, closed, coupleId, userId, from, to));
+        } catch (TaskRejectedException e) {
+            log.warn("기간 달력 조회 작업 거부 (스레드 풀 포화): coupleId={}, error={}", coupleId, e.getMessage());
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private void streamCalendarRange(SseEmitter emitter, AtomicBoolean closed, String coupleId, String userId,
+                                     YearMonth from, YearMonth to) {
+        try {
+            UUID coupleUuid = UUID.fromString(coupleId);
+            scheduleService.streamCalendarRange(coupleUuid, from, to, userId, month -> {
+                if (closed.get()) {
+                    throw new CancellationException("기간 달력 스트림이 종료되었습니다");
+                }
+                sendEvent(emitter, "month", ApiResponse.success("달력 조회 성공", month));
+            });
+            sendEvent(emitter, "completed", ApiResponse.success("기간 달력 조회 완료", null));
+        } catch (CancellationException e) {
+            log.debug("기간 달력 조회 중단: coupleId={}", coupleId);
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 UUID 형식: {}", e.getMessage());
+            sendEvent(emitter, "error", ApiResponse.error("잘못된 커플 ID 형식입니다: " + coupleId));
+        } catch (Exception e) {
+            log.error("기간 달력 조회 중 오류: {}", e.getMessage(), e);
+            sendEvent(emitter, "error", ApiResponse.error("달력 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+        emitter.complete();
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 등
+            log.debug("SSE 이벤트 전송 실패: event={}, error={}", name, e.getMessage());
+        }
+    }
+}
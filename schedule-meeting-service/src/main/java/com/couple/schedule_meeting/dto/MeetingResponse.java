@@ -2,7 +2,6 @@ package com.couple.schedule_meeting.dto;
 
 import com.couple.schedule_meeting.entity.Meeting;
 import com.couple.schedule_meeting.entity.MeetingPlace;
-import com.couple.schedule_meeting.entity.Route;
 import com.couple.schedule_meeting.entity.Place;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +23,7 @@ public class MeetingResponse {
     private LocalDateTime endTime;
     private String date;
     private List<MeetingPlaceResponse> meetingPlaces;
-    private Object route; // MongoDB에 저장된 포맷 그대로 사용
+    private Object route; // WaypointRouteResponse 구조 (요약 모드에서는 구간 legs 제외)
 
     @Getter
     @NoArgsConstructor
@@ -40,7 +39,7 @@ public class MeetingResponse {
         private Integer sequence;
     }
 
-    public static MeetingResponse from(Meeting meeting, List<MeetingPlace> meetingPlaces, Route route) {
+    public static MeetingResponse from(Meeting meeting, List<MeetingPlace> meetingPlaces, Object route) {
         List<MeetingPlaceResponse> placeResponses = meetingPlaces.stream()
                 .map(meetingPlace -> {
                     // Place 객체에서 장소 정보 가져오기
@@ -64,7 +63,7 @@ public class MeetingResponse {
                 .endTime(meeting.getEndTime())
                 .date(meeting.getDate())
                 .meetingPlaces(placeResponses)
-                .route(route != null ? route.getRoutes() : null) // MongoDB에 저장된 routes 객체 그대로 사용
+                .route(route)
                 .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.couple.schedule_meeting.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 로컬 장소 추천의 category 취향 프로필
+ * 외부 추천 API가 해당 category 장소를 고른 커플들의 취향 벡터(vec_1 ~ vec_50) 지수 이동 평균입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "category_profiles")
+public class CategoryProfile {
+
+    @Id
+    private String category;
+
+    private List<Double> vector; // 50차원, -1 ~ 1
+    private Instant updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.couple.schedule_meeting.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커플 구성원과 취향 벡터(vec_1 ~ vec_50)의 로컬 스냅샷
+ * user-couple-service(커플 정보)와 question-answer-service(취향 벡터)의 값을 비정규화해 보관합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "couple_preference_snapshots")
+public class CouplePreferenceSnapshot {
+
+    @Id
+    private String coupleId;
+
+    private List<Member> members; // [user1, user2]
+    private Long version; // 변경될 때마다 1씩 증가
+    private Instant refreshedAt; // 원본 서비스에서 전체를 다시 채운 시각
+
+    @Data
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Member {
+        private String userId;
+        private String name;
+        private String gender;
+        private Map<String, Double> preferences;
+        private Instant vectorUpdatedAt; // 이 시각 이전의 벡터 변경 알림은 무시
+    }
+}
@@ -1,13 +1,17 @@
 package com.couple.schedule_meeting.entity;
 
+import com.couple.schedule_meeting.service.MeetingCalendarListener;
+import com.couple.schedule_meeting.service.MeetingRouteListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = @Index(name = "idx_meetings_couple_starttime", columnList = "couple_id, starttime"))
+@EntityListeners({MeetingCalendarListener.class, MeetingRouteListener.class})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,4 +46,11 @@ public class Meeting {
 
     @Column(name = "day", insertable = false, updatable = false)
     private Integer day;
+
+    @Column(name = "route_id", length = 64)
+    private String routeId;
+
+    @Column(name = "created_at", updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
 } 
\ No newline at end of file
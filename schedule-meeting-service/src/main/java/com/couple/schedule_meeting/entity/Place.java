@@ -1,5 +1,6 @@
 package com.couple.schedule_meeting.entity;
 
+import com.couple.schedule_meeting.service.PlaceIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -8,6 +9,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "places")
+@EntityListeners(PlaceIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
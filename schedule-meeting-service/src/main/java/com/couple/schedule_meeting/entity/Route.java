@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
@@ -20,6 +22,9 @@ public class Route {
     private String id;
     
     private Object routes; // TmpMeeting의 routes 값을 그대로 저장
+    private Instant expireAt; // 미팅으로 저장되지 않은 경로의 만료 시각 (TTL 인덱스), 저장된 경로는 null
+    private String linkedMeetingId; // 이전(LegacyRouteMigration)으로 미팅에 연결된 기존 경로의 미팅 ID
+    private Set<String> pinnedBy; // 이 경로를 참조하는 미팅 ID, 비면 만료 대상으로 전환
     
     @Data
     @Builder
@@ -5,8 +5,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.List;
 
 @Data
@@ -29,6 +31,8 @@ public class TmpMeeting {
     private String currentLon;
     private MeetingResults results;
     private List<String> stores;
+    private String routeId; // routes 컬렉션의 경로 ID (내용 해시)
+    private Instant createdAt; // TTL 인덱스 기준 시각
     
     @Data
     @Builder
@@ -36,7 +40,8 @@ public class TmpMeeting {
     @AllArgsConstructor
     public static class MeetingResults {
         private List<TimeSlot> timeSlots;
-        private Object routes; // routes는 나중에 별도 구조로 정의
+        @Transient
+        private Object routes; // routes 컬렉션에 routeId로 저장, 응답 시에만 채움
     }
     
     @Data
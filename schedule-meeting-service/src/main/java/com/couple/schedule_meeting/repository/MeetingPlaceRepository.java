@@ -16,4 +16,13 @@ public interface MeetingPlaceRepository extends JpaRepository<MeetingPlace, UUID
     List<MeetingPlace> findByMeetingIdOrderBySequenceAsc(@Param("meetingId") UUID meetingId);
     
     void deleteByMeetingId(UUID meetingId);
+    
+    /**
+     * 경로가 연결되지 않은 미팅의 (meetingId, 미팅 생성 시각, 장소 이름) 목록 (미팅별 방문 순서)
+     * 장소를 찾지 못한 방문 장소도 포함하며 이때 장소 이름은 null입니다.
+     */
+    @Query("SELECT mp.meetingId, m.createdAt, p.name FROM MeetingPlace mp LEFT JOIN mp.place p "
+            + "JOIN Meeting m ON m.id = mp.meetingId "
+            + "WHERE m.routeId IS NULL ORDER BY mp.meetingId, mp.sequence ASC")
+    List<Object[]> findPlaceNamesOfMeetingsWithoutRoute();
 } 
\ No newline at end of file
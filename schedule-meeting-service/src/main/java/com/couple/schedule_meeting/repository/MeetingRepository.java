@@ -2,10 +2,13 @@ package com.couple.schedule_meeting.repository;
 
 import com.couple.schedule_meeting.entity.Meeting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +20,22 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID> {
                                                                   @Param("year") Integer year, 
                                                                   @Param("month") Integer month);
     
+    @Query("SELECT m FROM Meeting m WHERE m.coupleId = :coupleId AND m.startTime >= :from AND m.startTime < :to ORDER BY m.startTime ASC")
+    List<Meeting> findByCoupleIdAndStartTimeRange(@Param("coupleId") UUID coupleId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+    
     @Query("SELECT m FROM Meeting m WHERE m.coupleId = :coupleId ORDER BY m.startTime ASC")
     List<Meeting> findByCoupleIdOrderByStartTimeAsc(@Param("coupleId") UUID coupleId);
+    
+    @Query("SELECT m.id FROM Meeting m WHERE m.routeId = :routeId")
+    List<UUID> findIdsByRouteId(@Param("routeId") String routeId);
+    
+    /**
+     * 경로가 연결되지 않은 미팅에 경로 연결 (기존 경로 이전용)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meeting m SET m.routeId = :routeId WHERE m.id = :meetingId AND m.routeId IS NULL")
+    int linkRoute(@Param("meetingId") UUID meetingId, @Param("routeId") String routeId);
 } 
\ No newline at end of file
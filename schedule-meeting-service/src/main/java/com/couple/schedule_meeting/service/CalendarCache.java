@@ -0,0 +1,120 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.ScheduleCalendarResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (coupleId, year, month)별로 미리 계산한 달력 응답 캐시
+ * - 미팅 변경 시 커플 단위로 무효화하고, Redis 채널로 다른 노드에도 무효화를 전파합니다.
+ * - user-couple-service가 커플 시작일/구성원 변경 시 발행하는 couple:changed 메시지로도 무효화합니다.
+ * - Pub/Sub 메시지는 유실될 수 있으므로 만료 시간으로 오래된 항목을 정리합니다.
+ * - 무효화할 때마다 커플의 세대(generation)를 올리고, 조회 시작 전 세대와 달라진 응답은 저장하지 않습니다.
+ *   (무효화 전에 조회한 데이터가 무효화 후에 저장되는 경쟁 방지)
+ */
+@Slf4j
+@Component
+public class CalendarCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "calendar:invalidate";
+    private static final String COUPLE_CHANGED_CHANNEL = "couple:changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<CalendarKey, ScheduleCalendarResponse> cache;
+    private final Map<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CalendarCache(StringRedisTemplate redisTemplate,
+                         RedisMessageListenerContainer listenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${schedule.calendar-cache.max-size:10000}") long maxSize,
+                         @Value("${schedule.calendar-cache.ttl-minutes:1440}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "schedule.calendar");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this,
+                List.of(new ChannelTopic(INVALIDATE_CHANNEL), new ChannelTopic(COUPLE_CHANGED_CHANNEL)));
+    }
+
+    public ScheduleCalendarResponse get(UUID coupleId, int year, int month) {
+        return cache.getIfPresent(new CalendarKey(coupleId, year, month));
+    }
+
+    /**
+     * 커플의 현재 세대 (응답을 만들기 위한 조회 전에 읽어 put에 전달)
+     */
+    public long generation(UUID coupleId) {
+        AtomicLong generation = generations.get(coupleId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    /**
+     * 응답 저장 (조회 시작 후 무효화되었으면 저장하지 않음)
+     *
+     * @param generation 조회 시작 전에 읽은 generation(coupleId)
+     */
+    public void put(UUID coupleId, int year, int month, long generation, ScheduleCalendarResponse response) {
+        cache.asMap().compute(new CalendarKey(coupleId, year, month),
+                (key, existing) -> generation(coupleId) == generation ? response : existing);
+    }
+
+    /**
+     * 커플의 모든 달력 캐시를 이 노드와 다른 노드에서 무효화
+     */
+    public void evictCouple(UUID coupleId) {
+        evictLocal(coupleId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, coupleId.toString());
+        } catch (Exception e) {
+            log.warn("달력 캐시 무효화 발행 실패: coupleId={}, error={}", coupleId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(UUID.fromString(body.trim()));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 달력 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictLocal(UUID coupleId) {
+        // 세대를 먼저 올려 진행 중인 조회 결과가 삭제 이후에 저장되지 않도록 함
+        generations.computeIfAbsent(coupleId, key -> new AtomicLong()).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.coupleId().equals(coupleId));
+        log.debug("달력 캐시 무효화: coupleId={}", coupleId);
+    }
+
+    private record CalendarKey(UUID coupleId, int year, int month) {
+    }
+}
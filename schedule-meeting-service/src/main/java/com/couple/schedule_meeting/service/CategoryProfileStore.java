@@ -0,0 +1,58 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.entity.CategoryProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * category 취향 프로필 저장소 (category_profiles 컬렉션)
+ * 재시작이나 배포 후에도 로컬 추천의 취향 유사도 점수가 처음부터 다시 학습되지 않도록 보관합니다.
+ * 여러 인스턴스가 같은 category를 학습하면 마지막으로 저장한 인스턴스의 값이 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryProfileStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 저장된 전체 프로필 (차원 수가 다른 프로필은 제외)
+     */
+    public Map<String, float[]> loadAll(int dimensions) {
+        Map<String, float[]> profiles = new HashMap<>();
+        for (CategoryProfile profile : mongoTemplate.findAll(CategoryProfile.class)) {
+            List<Double> vector = profile.getVector();
+            if (profile.getCategory() == null || vector == null || vector.size() != dimensions) {
+                log.warn("category 프로필 형식 오류로 제외: category={}", profile.getCategory());
+                continue;
+            }
+            float[] values = new float[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                values[i] = vector.get(i) != null ? vector.get(i).floatValue() : 0f;
+            }
+            profiles.put(profile.getCategory(), values);
+        }
+        return profiles;
+    }
+
+    public void save(String category, float[] vector) {
+        List<Double> values = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            values.add((double) value);
+        }
+        mongoTemplate.save(CategoryProfile.builder()
+                .category(category)
+                .vector(values)
+                .updatedAt(Instant.now())
+                .build());
+    }
+}
@@ -0,0 +1,280 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.CoupleInfo;
+import com.couple.schedule_meeting.dto.UserInfo;
+import com.couple.schedule_meeting.entity.CouplePreferenceSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커플 취향 스냅샷 저장소 (couple_preference_snapshots 컬렉션)
+ * - 추천 요청은 스냅샷에서 바로 커플 구성원과 취향 벡터를 읽어 다른 서비스를 호출하지 않습니다.
+ * - question-answer-service의 user-vector:changed 메시지(변경된 벡터 전체 포함)로 구성원 벡터를 갱신하며,
+ *   구성원별 vectorUpdatedAt보다 오래된 메시지는 무시합니다.
+ * - user-couple-service의 couple:changed 메시지를 받으면 스냅샷을 지우고 다음 요청에서 다시 채웁니다.
+ * - 스냅샷이 없으면 question-answer-service에서 조회해 채우고, max-age-hours가 지난 스냅샷은 응답 후 백그라운드로 다시 채웁니다.
+ *   (Pub/Sub 메시지 유실이나 이름/성별 변경 대비)
+ */
+@Slf4j
+@Component
+public class CouplePreferenceSnapshotStore implements MessageListener {
+
+    private static final String USER_VECTOR_CHANGED_CHANNEL = "user-vector:changed";
+    private static final String COUPLE_CHANGED_CHANNEL = "couple:changed";
+    private static final int MAX_FILL_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final CoupleVectorService coupleVectorService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor recommendationExecutor;
+    private final Duration maxAge;
+    private final Counter snapshotHits;
+    private final Counter snapshotMisses;
+    // 백그라운드 갱신 중인 coupleId
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CouplePreferenceSnapshotStore(MongoTemplate mongoTemplate,
+                                         CoupleVectorService coupleVectorService,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         ObjectMapper objectMapper,
+                                         ThreadPoolTaskExecutor recommendationExecutor,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${meeting.preference-snapshot.max-age-hours:24}") long maxAgeHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.coupleVectorService = coupleVectorService;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.recommendationExecutor = recommendationExecutor;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+        this.snapshotHits = Counter.builder("couple.preference.snapshot.lookups")
+                .tag("result", "hit")
+                .description("커플 취향 스냅샷 조회 결과")
+                .register(meterRegistry);
+        this.snapshotMisses = Counter.builder("couple.preference.snapshot.lookups")
+                .tag("result", "miss")
+                .description("커플 취향 스냅샷 조회 결과")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this,
+                List.of(new ChannelTopic(USER_VECTOR_CHANGED_CHANNEL), new ChannelTopic(COUPLE_CHANGED_CHANNEL)));
+    }
+
+    /**
+     * 사용자가 속한 커플의 구성원과 취향 벡터
+     *
+     * @throws RuntimeException 스냅샷이 없고 question-answer-service 조회도 실패한 경우
+     */
+    public CoupleInfo getCoupleInfo(String userId) {
+        CouplePreferenceSnapshot snapshot = mongoTemplate.findOne(
+                Query.query(Criteria.where("members.userId").is(userId)), CouplePreferenceSnapshot.class);
+        if (snapshot == null) {
+            snapshotMisses.increment();
+            log.info("커플 취향 스냅샷 없음, question-answer-service에서 채움: userId={}", userId);
+            return toCoupleInfo(fill(userId));
+        }
+
+        snapshotHits.increment();
+        if (snapshot.getRefreshedAt() == null || snapshot.getRefreshedAt().plus(maxAge).isBefore(Instant.now())) {
+            refreshInBackground(userId, snapshot.getCoupleId());
+        }
+        return toCoupleInfo(snapshot);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (COUPLE_CHANGED_CHANNEL.equals(channel)) {
+                String coupleId = UUID.fromString(body.trim()).toString();
+                mongoTemplate.remove(Query.query(Criteria.where("_id").is(coupleId)), CouplePreferenceSnapshot.class);
+                log.debug("커플 취향 스냅샷 삭제: coupleId={}", coupleId);
+            } else {
+                applyVectorChange(objectMapper.readValue(body, UserVectorChangedEvent.class));
+            }
+        } catch (Exception e) {
+            log.warn("커플 취향 스냅샷 갱신 메시지 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * 구성원 벡터를 메시지 값으로 교체 (스냅샷의 벡터보다 새로운 경우에만)
+     */
+    private void applyVectorChange(UserVectorChangedEvent event) {
+        if (event.userId() == null || event.vectors() == null || event.updatedAt() == null) {
+            return;
+        }
+        Date updatedAt = Date.from(event.updatedAt());
+        long updated = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("members").elemMatch(Criteria.where("userId").is(event.userId().toString())
+                        .and("vectorUpdatedAt").lt(updatedAt))),
+                new Update()
+                        .set("members.$.preferences", event.vectors())
+                        .set("members.$.vectorUpdatedAt", updatedAt)
+                        .inc("version", 1),
+                CouplePreferenceSnapshot.class).getModifiedCount();
+        log.debug("취향 벡터 변경 반영: userId={}, 반영={}", event.userId(), updated > 0);
+    }
+
+    private void refreshInBackground(String userId, String coupleId) {
+        if (!refreshing.add(coupleId)) {
+            return;
+        }
+        try {
+            recommendationExecutor.execute(() -> {
+                try {
+                    fill(userId);
+                } catch (Exception e) {
+                    log.warn("커플 취향 스냅샷 갱신 실패, 기존 스냅샷 유지: coupleId={}, error={}", coupleId, e.getMessage());
+                } finally {
+                    refreshing.remove(coupleId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(coupleId);
+        }
+    }
+
+    /**
+     * question-answer-service에서 커플 구성원과 벡터를 조회해 스냅샷을 새로 씁니다.
+     * 구성원의 vectorUpdatedAt은 원본 벡터의 변경 시각을 사용하고, 없으면 조회 시작 시각을 사용합니다.
+     * (조회 도중 커밋된 벡터 변경 메시지가 스냅샷 시각보다 오래된 것으로 무시되지 않도록)
+     * 조회와 저장 사이에 벡터 변경 메시지가 반영되었을 수 있으므로, 저장된 스냅샷과 구성원별로 병합해
+     * vectorUpdatedAt이 더 새로운 벡터를 남기고 version 조건부 갱신으로 씁니다. (충돌 시 다시 읽어 병합)
+     */
+    private CouplePreferenceSnapshot fill(String userId) {
+        Instant readStartedAt = Instant.now();
+        CoupleVectorService.CoupleVectorsResponse coupleVectors = coupleVectorService.getCoupleVectors(userId);
+        Instant now = Instant.now();
+        String coupleId = coupleVectors.getCoupleId().toString();
+        List<CouplePreferenceSnapshot.Member> fetched = List.of(
+                toMember(coupleVectors.getUser1(), readStartedAt),
+                toMember(coupleVectors.getUser2(), readStartedAt));
+
+        List<CouplePreferenceSnapshot.Member> members = fetched;
+        for (int attempt = 0; attempt < MAX_FILL_ATTEMPTS; attempt++) {
+            CouplePreferenceSnapshot stored = mongoTemplate.findById(coupleId, CouplePreferenceSnapshot.class);
+            members = merge(fetched, stored);
+            if (stored == null) {
+                try {
+                    mongoTemplate.insert(CouplePreferenceSnapshot.builder()
+                            .coupleId(coupleId)
+                            .members(members)
+                            .version(1L)
+                            .refreshedAt(now)
+                            .build());
+                    return snapshot(coupleId, members, now);
+                } catch (DuplicateKeyException e) {
+                    continue;
+                }
+            }
+            Criteria sameVersion = stored.getVersion() != null
+                    ? Criteria.where("version").is(stored.getVersion())
+                    : Criteria.where("version").exists(false);
+            long written = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(coupleId).andOperator(sameVersion)),
+                    new Update().set("members", members).set("refreshedAt", now).inc("version", 1),
+                    CouplePreferenceSnapshot.class).getModifiedCount();
+            if (written > 0) {
+                return snapshot(coupleId, members, now);
+            }
+        }
+        log.warn("커플 취향 스냅샷 저장 경합으로 이번 갱신은 건너뜀: coupleId={}", coupleId);
+        return snapshot(coupleId, members, now);
+    }
+
+    /**
+     * 새로 조회한 구성원에 저장된 스냅샷의 더 새로운 벡터(vectorUpdatedAt 기준)를 반영
+     * 이름/성별과 구성원 목록은 새로 조회한 값을 사용합니다.
+     */
+    private static List<CouplePreferenceSnapshot.Member> merge(List<CouplePreferenceSnapshot.Member> fetched,
+                                                               CouplePreferenceSnapshot stored) {
+        if (stored == null || stored.getMembers() == null) {
+            return fetched;
+        }
+        return fetched.stream().map(member -> stored.getMembers().stream()
+                        .filter(current -> member.getUserId().equals(current.getUserId()))
+                        .filter(current -> current.getVectorUpdatedAt() != null
+                                && current.getVectorUpdatedAt().isAfter(member.getVectorUpdatedAt()))
+                        .findFirst()
+                        .map(current -> member.toBuilder()
+                                .preferences(current.getPreferences())
+                                .vectorUpdatedAt(current.getVectorUpdatedAt())
+                                .build())
+                        .orElse(member))
+                .toList();
+    }
+
+    private static CouplePreferenceSnapshot snapshot(String coupleId, List<CouplePreferenceSnapshot.Member> members,
+                                                     Instant refreshedAt) {
+        return CouplePreferenceSnapshot.builder()
+                .coupleId(coupleId)
+                .members(members)
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+
+    private CouplePreferenceSnapshot.Member toMember(
+            CoupleVectorService.CoupleVectorsResponse.CoupleUserVectorResponse userVector, Instant readStartedAt) {
+        return CouplePreferenceSnapshot.Member.builder()
+                .userId(userVector.getUserId().toString())
+                .name(userVector.getName())
+                .gender(userVector.getGender())
+                .preferences(userVector.getPreferences())
+                .vectorUpdatedAt(userVector.getUpdatedAt() != null ? userVector.getUpdatedAt() : readStartedAt)
+                .build();
+    }
+
+    private CoupleInfo toCoupleInfo(CouplePreferenceSnapshot snapshot) {
+        return CoupleInfo.builder()
+                .coupleId(snapshot.getCoupleId())
+                .user1(toUserInfo(snapshot.getMembers().get(0)))
+                .user2(toUserInfo(snapshot.getMembers().get(1)))
+                .build();
+    }
+
+    private UserInfo toUserInfo(CouplePreferenceSnapshot.Member member) {
+        return UserInfo.builder()
+                .id(member.getUserId())
+                .gender(member.getGender())
+                .birth("") // birth 정보는 API에서 제공하지 않으므로 빈 문자열
+                .preferenceVector(member.getPreferences())
+                .build();
+    }
+
+    /**
+     * question-answer-service가 발행하는 취향 벡터 변경 메시지
+     */
+    record UserVectorChangedEvent(UUID userId, Map<String, Double> vectors, Instant updatedAt) {
+    }
+}
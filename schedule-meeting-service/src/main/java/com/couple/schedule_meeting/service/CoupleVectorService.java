@@ -9,6 +9,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -76,6 +77,7 @@ public class CoupleVectorService {
             private String name;
             private String gender;
             private Map<String, Double> preferences;
+            private Instant updatedAt; // 벡터 마지막 변경 시각, 저장된 벡터가 없으면 null
         }
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.resilience.ResilienceRegistry;
+import com.couple.schedule_meeting.config.ResilienceConfig;
 import com.couple.schedule_meeting.dto.KakaoRegionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +18,8 @@ public class KakaoApiService {
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
     
-    private final WebClient webClient;
+    private final WebClient kakaoWebClient;
+    private final ResilienceRegistry resilienceRegistry;
     
     public Mono<KakaoRegionResponse> getRegionFromCoordinates(double longitude, double latitude) {
         log.info("Kakao API 요청 시작 - longitude: {}, latitude: {}", longitude, latitude);
@@ -25,15 +28,19 @@ public class KakaoApiService {
         String requestUrl = String.format("https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=%f&y=%f", longitude, latitude);
         log.info("Kakao API 요청 URL: {}", requestUrl);
         
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/v2/local/geo/coord2regioncode.json")
-                        .queryParam("x", longitude)
-                        .queryParam("y", latitude)
-                        .build())
-                .header("Authorization", "KakaoAK " + kakaoApiKey)
-                .retrieve()
-                .bodyToMono(KakaoRegionResponse.class)
+        // 시간 제한/동시 호출 제한/회로 차단 적용, 응답이 늦으면 헤지 요청
+        return Mono.fromFuture(() -> resilienceRegistry.get(ResilienceConfig.KAKAO_LOCAL).executeIdempotentAsync(
+                        () -> kakaoWebClient.get()
+                                .uri(uriBuilder -> uriBuilder
+                                        .path("/v2/local/geo/coord2regioncode.json")
+                                        .queryParam("x", longitude)
+                                        .queryParam("y", latitude)
+                                        .build())
+                                .header("Authorization", "KakaoAK " + kakaoApiKey)
+                                .retrieve()
+                                .bodyToMono(KakaoRegionResponse.class)
+                                .toFuture(),
+                        null))
                 .doOnSuccess(response -> {
                     log.info("Kakao API 응답 성공");
                     if (response != null && response.getDocuments() != null) {
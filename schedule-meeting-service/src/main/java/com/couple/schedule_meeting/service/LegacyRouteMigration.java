@@ -0,0 +1,246 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.entity.Route;
+import com.couple.schedule_meeting.entity.TmpMeeting;
+import com.couple.schedule_meeting.repository.MeetingPlaceRepository;
+import com.couple.schedule_meeting.repository.MeetingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 경로 내용 주소 저장(routes + routeId 참조) 이전에 저장된 문서 이전 (기동 시 실행, 반복 실행해도 안전)
+ * 1. tmp_meetings: results.routes에 내장된 경로를 RouteStore로 옮기고 routeId를 기록합니다.
+ *    createdAt이 없는 문서는 ObjectId 생성 시각(없으면 현재 시각)으로 채워 TTL 인덱스 대상에 넣습니다.
+ * 2. routes: 미팅 저장 시 ObjectId로 저장되었지만 어떤 미팅에서도 참조되지 않던 경로를,
+ *    구간 도착지 이름 순서가 방문 장소 순서와 같은 경로 미연결 미팅에 연결합니다.
+ *    다른 커플의 경로(출발지 포함)가 연결되지 않도록, 같은 코스의 경로와 미팅이 각각 하나뿐이고
+ *    경로 생성 시각이 미팅 생성 시각 전후 legacy-link-window-seconds 이내일 때만 연결합니다.
+ *    그 외 경로는 legacy-retention-days 후 만료되도록 expireAt을 설정합니다.
+ * 3. routes: 참조 목록(pinnedBy) 도입 전에 영구 보관된 경로에 참조하는 미팅 ID를 채웁니다.
+ *    참조하는 미팅이 없으면 legacy-retention-days 후 만료되도록 expireAt을 설정합니다.
+ */
+@Slf4j
+@Component
+public class LegacyRouteMigration {
+
+    private static final String TMP_MEETINGS = "tmp_meetings";
+    private static final String ROUTES = "routes";
+    private static final int BSON_OBJECT_ID = 7;
+
+    private final MongoTemplate mongoTemplate;
+    private final RouteStore routeStore;
+    private final MeetingRepository meetingRepository;
+    private final MeetingPlaceRepository meetingPlaceRepository;
+    private final Duration legacyRetention;
+    private final Duration linkWindow;
+
+    public LegacyRouteMigration(MongoTemplate mongoTemplate,
+                                RouteStore routeStore,
+                                MeetingRepository meetingRepository,
+                                MeetingPlaceRepository meetingPlaceRepository,
+                                @Value("${meeting.route.legacy-retention-days:30}") long legacyRetentionDays,
+                                @Value("${meeting.route.legacy-link-window-seconds:60}") long linkWindowSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.routeStore = routeStore;
+        this.meetingRepository = meetingRepository;
+        this.meetingPlaceRepository = meetingPlaceRepository;
+        this.legacyRetention = Duration.ofDays(legacyRetentionDays);
+        this.linkWindow = Duration.ofSeconds(linkWindowSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            migrateTmpMeetings();
+            migrateMeetingRoutes();
+            backfillPinnedBy();
+        } catch (Exception e) {
+            log.error("기존 경로 이전 실패 (다음 기동 시 다시 시도): {}", e.getMessage(), e);
+        }
+    }
+
+    private void migrateTmpMeetings() {
+        Query legacy = Query.query(new Criteria().orOperator(
+                Criteria.where("results.routes").exists(true),
+                Criteria.where("createdAt").exists(false)));
+        int migrated = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(legacy, Document.class, TMP_MEETINGS)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                Update update = new Update();
+                Object routes = document.get("results") instanceof Document results ? results.get("routes") : null;
+                if (routes != null) {
+                    if (document.get("routeId") == null) {
+                        update.set("routeId", routeStore.store(routes));
+                    }
+                    update.unset("results.routes");
+                }
+                if (document.get("createdAt") == null) {
+                    update.set("createdAt", document.get("_id") instanceof ObjectId objectId ? objectId.getDate() : new Date());
+                }
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(document.get("_id"))), update, TmpMeeting.class);
+                migrated++;
+            }
+        }
+        if (migrated > 0) {
+            log.info("tmp_meetings 이전 완료: {}개 문서", migrated);
+        }
+    }
+
+    private void migrateMeetingRoutes() {
+        Query legacy = Query.query(Criteria.where("_id").type(BSON_OBJECT_ID)
+                .and("expireAt").exists(false)
+                .and("linkedMeetingId").exists(false));
+        if (!mongoTemplate.exists(legacy, ROUTES)) {
+            return;
+        }
+
+        // 갱신 중인 컬렉션을 커서로 다시 읽지 않도록 대상 경로를 먼저 모음
+        Map<String, List<ObjectId>> routesByCourse = new LinkedHashMap<>();
+        try (Stream<Document> documents = mongoTemplate.stream(legacy, Document.class, ROUTES)) {
+            documents.forEach(document -> routesByCourse.computeIfAbsent(
+                    courseKey(destinationNames(document.get("routes"))), key -> new ArrayList<>())
+                    .add(document.getObjectId("_id")));
+        }
+
+        Map<String, List<MeetingCandidate>> meetingsByCourse = meetingsWithoutRouteByCourse();
+        Date expireAt = Date.from(Instant.now().plus(legacyRetention));
+        int linked = 0;
+        int expiring = 0;
+        for (Map.Entry<String, List<ObjectId>> entry : routesByCourse.entrySet()) {
+            List<ObjectId> routeIds = entry.getValue();
+            List<MeetingCandidate> candidates = meetingsByCourse.getOrDefault(entry.getKey(), List.of());
+            // 같은 코스의 경로나 미팅이 여럿이면 어느 커플의 경로인지 알 수 없으므로 연결하지 않음
+            if (!entry.getKey().isEmpty() && routeIds.size() == 1 && candidates.size() == 1
+                    && createdTogether(routeIds.get(0), candidates.get(0))
+                    && meetingRepository.linkRoute(candidates.get(0).meetingId(), routeIds.get(0).toHexString()) > 0) {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(routeIds.get(0))),
+                        new Update().set("linkedMeetingId", candidates.get(0).meetingId().toString())
+                                .addToSet("pinnedBy", candidates.get(0).meetingId().toString()), Route.class);
+                linked++;
+                continue;
+            }
+            for (ObjectId routeId : routeIds) {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(routeId)),
+                        new Update().set("expireAt", expireAt), Route.class);
+                expiring++;
+            }
+        }
+        log.info("기존 미팅 경로 이전 완료: 연결 {}개, 만료 예정 {}개 ({} 후)", linked, expiring, legacyRetention);
+    }
+
+    private void backfillPinnedBy() {
+        Query legacy = Query.query(Criteria.where("expireAt").exists(false).and("pinnedBy").exists(false));
+        List<Object> routeIds = new ArrayList<>();
+        try (Stream<Document> documents = mongoTemplate.stream(legacy, Document.class, ROUTES)) {
+            documents.forEach(document -> routeIds.add(document.get("_id")));
+        }
+        if (routeIds.isEmpty()) {
+            return;
+        }
+
+        Date expireAt = Date.from(Instant.now().plus(legacyRetention));
+        int expiring = 0;
+        for (Object routeId : routeIds) {
+            // Meeting.routeId는 ObjectId 경로면 16진 문자열, 해시 경로면 해시
+            String reference = routeId instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(routeId);
+            Object[] meetingIds = meetingRepository.findIdsByRouteId(reference).stream().map(UUID::toString).toArray();
+            // 그 사이 반영된 pin을 덮어쓰지 않도록 추가만 함 (참조가 없으면 빈 목록 생성)
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(routeId)),
+                    new Update().addToSet("pinnedBy").each(meetingIds), Route.class);
+            if (meetingIds.length == 0 && mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(routeId).and("pinnedBy").size(0).and("expireAt").exists(false)),
+                    new Update().set("expireAt", expireAt), Route.class).getModifiedCount() > 0) {
+                expiring++;
+            }
+        }
+        log.info("경로 참조 목록 채움 완료: {}개 경로, 만료 예정 {}개", routeIds.size(), expiring);
+    }
+
+    /**
+     * 경로 ObjectId 생성 시각이 미팅 생성 시각 전후 link-window 이내인지 (기존 코드는 미팅 저장 직후 경로를 저장함)
+     * 생성 시각이 없는 미팅은 확인할 수 없으므로 false
+     */
+    private boolean createdTogether(ObjectId routeId, MeetingCandidate meeting) {
+        if (meeting.createdAt() == null) {
+            return false;
+        }
+        Instant meetingCreatedAt = meeting.createdAt().atZone(ZoneId.systemDefault()).toInstant();
+        Duration gap = Duration.between(meetingCreatedAt, routeId.getDate().toInstant()).abs();
+        return gap.compareTo(linkWindow) <= 0;
+    }
+
+    /**
+     * 장소 이름 순서 → 경로가 연결되지 않은 미팅
+     * 찾지 못한 장소가 있는 미팅은 코스를 알 수 없으므로 제외합니다.
+     */
+    private Map<String, List<MeetingCandidate>> meetingsWithoutRouteByCourse() {
+        Map<UUID, LocalDateTime> createdAtByMeeting = new HashMap<>();
+        Map<UUID, List<String>> namesByMeeting = new LinkedHashMap<>();
+        Set<UUID> unresolved = new HashSet<>();
+        for (Object[] row : meetingPlaceRepository.findPlaceNamesOfMeetingsWithoutRoute()) {
+            UUID meetingId = (UUID) row[0];
+            createdAtByMeeting.put(meetingId, (LocalDateTime) row[1]);
+            if (row[2] == null) {
+                unresolved.add(meetingId);
+            }
+            namesByMeeting.computeIfAbsent(meetingId, key -> new ArrayList<>()).add((String) row[2]);
+        }
+        if (!unresolved.isEmpty()) {
+            log.warn("찾지 못한 장소가 있어 경로 연결에서 제외한 미팅: {}개 {}", unresolved.size(), unresolved);
+        }
+        Map<String, List<MeetingCandidate>> meetingsByCourse = new HashMap<>();
+        namesByMeeting.forEach((meetingId, names) -> {
+            if (!unresolved.contains(meetingId)) {
+                meetingsByCourse.computeIfAbsent(courseKey(names), key -> new ArrayList<>())
+                        .add(new MeetingCandidate(meetingId, createdAtByMeeting.get(meetingId)));
+            }
+        });
+        return meetingsByCourse;
+    }
+
+    /**
+     * 경로(WaypointRouteResponse 구조)의 구간 도착지 이름 (출발지 제외, 방문 순서)
+     */
+    private static List<String> destinationNames(Object routes) {
+        List<String> names = new ArrayList<>();
+        if (routes instanceof Document routeDocument && routeDocument.get("segments") instanceof List<?> segments) {
+            for (Object segment : segments) {
+                if (segment instanceof Document segmentDocument && segmentDocument.getString("toName") != null) {
+                    names.add(segmentDocument.getString("toName"));
+                }
+            }
+        }
+        return names;
+    }
+
+    private static String courseKey(List<String> names) {
+        return names.stream().map(PlaceNameResolver::normalize).reduce((a, b) -> a + "\n" + b).orElse("");
+    }
+
+    private record MeetingCandidate(UUID meetingId, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,599 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.RecommendationRequest;
+import com.couple.schedule_meeting.dto.RecommendationResponse;
+import com.couple.schedule_meeting.entity.Place;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 장소 추천 (외부 추천 API 응답 전 즉시 결과, API 실패/시간 초과 시 대체 결과)
+ * - 공간 인덱스의 장소를 열 단위 primitive 배열(float[] 좌표/평점, int[] code/category 번호)로 복사해 두고,
+ *   시간대마다 전체 장소를 점수화해 상위 top-k개를 고릅니다. 장소 수가 parallel-threshold 이상이면 구간별로 병렬 선택 후 병합합니다.
+ * - 점수 = weight-rating × 평점(0~1) + weight-distance × exp(-거리/distance-decay-meters)
+ *   + weight-similarity × 취향 유사도 + weight-keyword × 키워드 일치
+ * - 장소에는 취향 벡터가 없으므로 외부 추천 API가 선택한 장소의 category마다 그 커플의 평균 취향 벡터(-1 ~ 1)를
+ *   지수 이동 평균으로 누적한 프로필을 두고, 요청 커플 벡터와의 코사인 유사도를 사용합니다. (프로필이 없는 category는 0)
+ *   프로필은 캐시에서 재사용된 결과가 아닌 새 API 응답에서만 학습하며, category_profiles 컬렉션에 주기적으로 저장하고 기동 시 불러옵니다.
+ * - 시간대는 slot-minutes 단위로 나누고 식사 시간대(11~14시, 17~20시)는 F, 그 외는 P code에서 고릅니다.
+ *   첫 시간대는 출발지, 이후 시간대는 직전 선택 장소 기준 거리를 사용하며 이미 고른 장소는 제외합니다.
+ * - 결과는 외부 추천 API와 같은 RecommendationResponse 형식이라 이후 좌표 조회/경로 생성 단계를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class LocalPlaceScorer {
+
+    private static final int DIMENSIONS = 50;
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final String FOOD_CODE = "F";
+    private static final String PLACE_CODE = "P";
+    private static final DateTimeFormatter SLOT_TIME = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String REASON = "로컬 추천: 평점, 거리, 취향 유사도 점수 1순위";
+
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceNameResolver placeNameResolver;
+    private final CategoryProfileStore categoryProfileStore;
+    private final Timer scoringTimer;
+    private final boolean enabled;
+    private final int topK;
+    private final int slotMinutes;
+    private final int maxSlots;
+    private final int parallelThreshold;
+    private final double maxRadiusMeters;
+    private final double distanceDecayMeters;
+    private final float weightRating;
+    private final float weightDistance;
+    private final float weightSimilarity;
+    private final float weightKeyword;
+    private final float learningRate;
+
+    // category → 선택된 커플들의 취향 벡터 지수 이동 평균
+    private final Map<String, float[]> categoryProfiles = new ConcurrentHashMap<>();
+    // 마지막 저장 이후 학습된 category
+    private final Set<String> dirtyCategories = ConcurrentHashMap.newKeySet();
+    private volatile Columns columns = Columns.EMPTY;
+
+    public LocalPlaceScorer(PlaceSpatialIndex placeSpatialIndex,
+                            PlaceNameResolver placeNameResolver,
+                            CategoryProfileStore categoryProfileStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${meeting.recommend.local.enabled:true}") boolean enabled,
+                            @Value("${meeting.recommend.local.top-k:5}") int topK,
+                            @Value("${meeting.recommend.local.slot-minutes:120}") int slotMinutes,
+                            @Value("${meeting.recommend.local.max-slots:6}") int maxSlots,
+                            @Value("${meeting.recommend.local.parallel-threshold:16384}") int parallelThreshold,
+                            @Value("${meeting.recommend.local.max-radius-meters:5000}") double maxRadiusMeters,
+                            @Value("${meeting.recommend.local.distance-decay-meters:1500}") double distanceDecayMeters,
+                            @Value("${meeting.recommend.local.weight-rating:0.3}") float weightRating,
+                            @Value("${meeting.recommend.local.weight-distance:0.3}") float weightDistance,
+                            @Value("${meeting.recommend.local.weight-similarity:0.3}") float weightSimilarity,
+                            @Value("${meeting.recommend.local.weight-keyword:0.1}") float weightKeyword,
+                            @Value("${meeting.recommend.local.learning-rate:0.1}") float learningRate) {
+        this.placeSpatialIndex = placeSpatialIndex;
+        this.placeNameResolver = placeNameResolver;
+        this.categoryProfileStore = categoryProfileStore;
+        this.enabled = enabled;
+        this.topK = topK;
+        this.slotMinutes = slotMinutes;
+        this.maxSlots = maxSlots;
+        this.parallelThreshold = parallelThreshold;
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.distanceDecayMeters = distanceDecayMeters;
+        this.weightRating = weightRating;
+        this.weightDistance = weightDistance;
+        this.weightSimilarity = weightSimilarity;
+        this.weightKeyword = weightKeyword;
+        this.learningRate = learningRate;
+        this.scoringTimer = Timer.builder("recommendation.local")
+                .description("로컬 장소 추천 계산 시간")
+                .register(meterRegistry);
+        Gauge.builder("recommendation.local.category.profiles", categoryProfiles, Map::size)
+                .description("취향 프로필이 있는 category 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시간대별 로컬 추천
+     *
+     * @param originLat 출발지 위도, 없으면 null (거리 점수 제외)
+     * @param originLon 출발지 경도, 없으면 null
+     * @return 추천 결과, 비활성화되었거나 인덱스가 비어 있으면 empty
+     */
+    public Optional<RecommendationResponse> recommend(RecommendationRequest request, Double originLat, Double originLon) {
+        if (!enabled || !placeSpatialIndex.isReady()) {
+            return Optional.empty();
+        }
+        return scoringTimer.record(() -> {
+            Columns current = columns();
+            if (current.size() == 0) {
+                return Optional.<RecommendationResponse>empty();
+            }
+
+            float[] similarity = categorySimilarity(current, coupleVector(request));
+            float[] keywordMatch = categoryKeywordMatch(current, request.getKeywords());
+            List<Integer> selected = new ArrayList<>();
+            List<RecommendationResponse.TimeSlot> timeSlots = new ArrayList<>();
+            Double lat = originLat;
+            Double lon = originLon;
+
+            for (LocalTime[] slot : slots(request.getStartTime(), request.getEndTime())) {
+                String preferredCode = isMealTime(slot[0]) ? FOOD_CODE : PLACE_CODE;
+                Query query = new Query(lat, lon, lat != null ? Math.cos(Math.toRadians(lat)) : 1.0,
+                        similarity, keywordMatch, selected.stream().mapToInt(Integer::intValue).toArray());
+                TopK top = select(current, query, current.codeId(preferredCode));
+                if (top.size() == 0) {
+                    top = select(current, query, current.codeId(FOOD_CODE.equals(preferredCode) ? PLACE_CODE : FOOD_CODE));
+                }
+                if (top.size() == 0) {
+                    continue;
+                }
+
+                int[] ranked = top.sortedIndices();
+                List<RecommendationResponse.StoreCandidate> candidates = new ArrayList<>(ranked.length);
+                for (int index : ranked) {
+                    candidates.add(RecommendationResponse.StoreCandidate.builder()
+                            .storeName(current.places()[index].getName())
+                            .score(Math.round(score(current, query, index) * 1000) / 1000.0)
+                            .description(describe(current, query, index))
+                            .build());
+                }
+                int best = ranked[0];
+                selected.add(best);
+                timeSlots.add(RecommendationResponse.TimeSlot.builder()
+                        .slot(SLOT_TIME.format(slot[0]) + "-" + SLOT_TIME.format(slot[1]))
+                        .topCandidates(candidates)
+                        .llmRecommendation(RecommendationResponse.LlmRecommendation.builder()
+                                .selected(current.places()[best].getName())
+                                .reason(REASON)
+                                .build())
+                        .build());
+                lat = (double) current.lat()[best];
+                lon = (double) current.lon()[best];
+            }
+
+            return timeSlots.isEmpty()
+                    ? Optional.<RecommendationResponse>empty()
+                    : Optional.of(RecommendationResponse.builder().timeSlots(timeSlots).build());
+        });
+    }
+
+    /**
+     * 외부 추천 API가 선택한 장소의 category 프로필에 요청 커플의 취향 벡터를 반영합니다.
+     * 같은 응답을 여러 번 반영하지 않도록 캐시된 결과가 아닌 새 API 응답에만 호출해야 합니다.
+     */
+    public void learn(RecommendationRequest request, RecommendationResponse response) {
+        if (!enabled || response == null || response.getTimeSlots() == null) {
+            return;
+        }
+        float[] couple = coupleVector(request);
+        if (norm(couple) == 0) {
+            return;
+        }
+        for (RecommendationResponse.TimeSlot timeSlot : response.getTimeSlots()) {
+            if (timeSlot.getLlmRecommendation() == null || timeSlot.getLlmRecommendation().getSelected() == null) {
+                continue;
+            }
+            placeNameResolver.findByNormalizedName(PlaceNameResolver.normalize(timeSlot.getLlmRecommendation().getSelected()))
+                    .map(Place::getCategory)
+                    .ifPresent(category -> {
+                        float[] profile = categoryProfiles.computeIfAbsent(category, key -> couple.clone());
+                        synchronized (profile) {
+                            for (int i = 0; i < DIMENSIONS; i++) {
+                                profile[i] += learningRate * (couple[i] - profile[i]);
+                            }
+                        }
+                        dirtyCategories.add(category);
+                    });
+        }
+    }
+
+    /**
+     * 저장된 category 프로필 불러오기 (기동 후 이미 학습한 category는 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadProfiles() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, float[]> stored = categoryProfileStore.loadAll(DIMENSIONS);
+            stored.forEach(categoryProfiles::putIfAbsent);
+            log.info("category 취향 프로필 로드 완료: {}개", stored.size());
+        } catch (Exception e) {
+            log.error("category 취향 프로필 로드 실패 (빈 프로필로 시작): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 마지막 저장 이후 학습된 category 프로필 저장 (종료 시에도 저장)
+     */
+    @Scheduled(fixedDelayString = "${meeting.recommend.local.profile-flush-millis:60000}")
+    @PreDestroy
+    public void flushProfiles() {
+        for (String category : List.copyOf(dirtyCategories)) {
+            dirtyCategories.remove(category);
+            float[] profile = categoryProfiles.get(category);
+            if (profile == null) {
+                continue;
+            }
+            float[] snapshot;
+            synchronized (profile) {
+                snapshot = profile.clone();
+            }
+            try {
+                categoryProfileStore.save(category, snapshot);
+            } catch (Exception e) {
+                // 다음 주기에 다시 저장
+                dirtyCategories.add(category);
+                log.warn("category 취향 프로필 저장 실패: category={}, error={}", category, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * code가 codeId인 장소 중 상위 topK개 (이미 선택한 장소 제외)
+     */
+    private TopK select(Columns current, Query query, int codeId) {
+        if (codeId < 0) {
+            return new TopK(topK);
+        }
+        int size = current.size();
+        if (size < parallelThreshold) {
+            return scan(current, query, codeId, 0, size);
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> scan(current, query, codeId, chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE)))
+                .reduce(TopK::merge)
+                .orElseGet(() -> new TopK(topK));
+    }
+
+    private TopK scan(Columns current, Query query, int codeId, int from, int to) {
+        TopK top = new TopK(topK);
+        int[] codes = current.code();
+        for (int i = from; i < to; i++) {
+            if (codes[i] != codeId || query.isSelected(i)) {
+                continue;
+            }
+            float score = score(current, query, i);
+            if (!Float.isNaN(score)) {
+                top.offer(i, score);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 장소 점수, 출발지에서 max-radius-meters보다 멀면 NaN
+     */
+    private float score(Columns current, Query query, int i) {
+        float score = weightRating * current.rating()[i];
+        if (query.lat() != null && query.lon() != null) {
+            double distance = distanceMeters(query, current.lat()[i], current.lon()[i]);
+            if (distance > maxRadiusMeters) {
+                return Float.NaN;
+            }
+            score += weightDistance * (float) Math.exp(-distance / distanceDecayMeters);
+        }
+        int category = current.category()[i];
+        if (category >= 0) {
+            score += weightSimilarity * query.similarity()[category] + weightKeyword * query.keywordMatch()[category];
+        }
+        return score;
+    }
+
+    private String describe(Columns current, Query query, int i) {
+        StringBuilder sb = new StringBuilder();
+        if (current.places()[i].getCategory() != null) {
+            sb.append(current.places()[i].getCategory()).append(" · ");
+        }
+        sb.append("평점 ").append(String.format("%.1f", current.rating()[i] * 5));
+        if (query.lat() != null && query.lon() != null) {
+            sb.append(" · ").append(Math.round(distanceMeters(query, current.lat()[i], current.lon()[i]))).append("m");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공간 인덱스가 바뀌었으면 열 배열을 다시 만듭니다.
+     */
+    private Columns columns() {
+        long version = placeSpatialIndex.version();
+        Columns current = columns;
+        if (current.version() == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (columns.version() != version) {
+                columns = Columns.build(version, placeSpatialIndex.places());
+                log.info("로컬 추천 장소 배열 재구성: {}개 장소, {}개 category", columns.size(), columns.categories().length);
+            }
+            return columns;
+        }
+    }
+
+    private float[] categorySimilarity(Columns current, float[] couple) {
+        float[] similarity = new float[current.categories().length];
+        float coupleNorm = norm(couple);
+        if (coupleNorm == 0) {
+            return similarity;
+        }
+        for (int c = 0; c < similarity.length; c++) {
+            float[] profile = categoryProfiles.get(current.categories()[c]);
+            if (profile == null) {
+                continue;
+            }
+            float dot = 0;
+            float profileNorm;
+            synchronized (profile) {
+                for (int i = 0; i < DIMENSIONS; i++) {
+                    dot += couple[i] * profile[i];
+                }
+                profileNorm = norm(profile);
+            }
+            similarity[c] = profileNorm == 0 ? 0 : dot / (coupleNorm * profileNorm);
+        }
+        return similarity;
+    }
+
+    private static float[] categoryKeywordMatch(Columns current, List<String> keywords) {
+        float[] match = new float[current.categories().length];
+        if (keywords == null || keywords.isEmpty()) {
+            return match;
+        }
+        for (int c = 0; c < match.length; c++) {
+            for (String keyword : keywords) {
+                if (keyword != null && !keyword.isBlank() && current.categories()[c].contains(keyword.trim())) {
+                    match[c] = 1;
+                    break;
+                }
+            }
+        }
+        return match;
+    }
+
+    /**
+     * 두 사람의 취향 벡터(vec_1 ~ vec_50, -1 ~ 1) 평균 (없는 항목은 중립값 0으로 간주)
+     */
+    private static float[] coupleVector(RecommendationRequest request) {
+        float[] vector = new float[DIMENSIONS];
+        for (RecommendationRequest.UserInfo user : Arrays.asList(request.getUser1(), request.getUser2())) {
+            Map<String, Double> preferences = user != null ? user.getPreferences() : null;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                Double value = preferences != null ? preferences.get("vec_" + (i + 1)) : null;
+                vector[i] += (float) (value != null ? value : 0.0) / 2;
+            }
+        }
+        return vector;
+    }
+
+    private static float norm(float[] vector) {
+        float sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    /**
+     * startTime ~ endTime을 slot-minutes 단위로 나눈 시간대 (시간을 알 수 없으면 정오부터 한 시간대)
+     */
+    private List<LocalTime[]> slots(String startTime, String endTime) {
+        int from;
+        int to;
+        try {
+            from = LocalTime.parse(startTime).toSecondOfDay() / 60;
+            to = LocalTime.parse(endTime).toSecondOfDay() / 60;
+        } catch (DateTimeParseException | NullPointerException e) {
+            from = LocalTime.NOON.toSecondOfDay() / 60;
+            to = from;
+        }
+        if (to <= from) {
+            // 종료 시각이 없거나 자정을 넘기면 한 시간대만 (자정 전까지)
+            to = Math.min(from + slotMinutes, MINUTES_PER_DAY - 1);
+        }
+        List<LocalTime[]> slots = new ArrayList<>();
+        for (int minute = from; minute < to && slots.size() < maxSlots; minute += slotMinutes) {
+            slots.add(new LocalTime[]{
+                    LocalTime.ofSecondOfDay(minute * 60L),
+                    LocalTime.ofSecondOfDay(Math.min(minute + slotMinutes, to) * 60L)});
+        }
+        return slots;
+    }
+
+    private static boolean isMealTime(LocalTime time) {
+        int hour = time.getHour();
+        return (hour >= 11 && hour < 14) || (hour >= 17 && hour < 20);
+    }
+
+    /**
+     * 기준 위치에서의 등장방형 근사 거리 (미터)
+     */
+    private static double distanceMeters(Query query, double lat, double lon) {
+        double dx = (lon - query.lon()) * query.cosLat() * METERS_PER_DEGREE_LAT;
+        double dy = (lat - query.lat()) * METERS_PER_DEGREE_LAT;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * 시간대 하나의 점수 계산 입력 (similarity/keywordMatch는 category 번호 순, selected는 앞 시간대에서 고른 장소 번호)
+     */
+    private record Query(Double lat, Double lon, double cosLat, float[] similarity, float[] keywordMatch, int[] selected) {
+
+        boolean isSelected(int index) {
+            for (int value : selected) {
+                if (value == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 장소 열 배열 (같은 번호가 같은 장소, rating은 0~1로 정규화)
+     */
+    private record Columns(long version, Place[] places, float[] lat, float[] lon, float[] rating,
+                           int[] code, int[] category, String[] codes, String[] categories) {
+
+        static final Columns EMPTY = new Columns(-1, new Place[0], new float[0], new float[0], new float[0],
+                new int[0], new int[0], new String[0], new String[0]);
+
+        static Columns build(long version, List<Place> source) {
+            int size = source.size();
+            Place[] places = source.toArray(new Place[0]);
+            float[] lat = new float[size];
+            float[] lon = new float[size];
+            float[] rating = new float[size];
+            int[] code = new int[size];
+            int[] category = new int[size];
+            Map<String, Integer> codeIds = new HashMap<>();
+            Map<String, Integer> categoryIds = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Place place = places[i];
+                lat[i] = place.getLatitude().floatValue();
+                lon[i] = place.getLongitude().floatValue();
+                rating[i] = place.getRating() != null ? Math.min(place.getRating().floatValue() / 5f, 1f) : 0f;
+                code[i] = codeIds.computeIfAbsent(place.getCode(), key -> codeIds.size());
+                category[i] = place.getCategory() != null
+                        ? categoryIds.computeIfAbsent(place.getCategory(), key -> categoryIds.size())
+                        : -1;
+            }
+            return new Columns(version, places, lat, lon, rating, code, category, names(codeIds), names(categoryIds));
+        }
+
+        private static String[] names(Map<String, Integer> ids) {
+            String[] names = new String[ids.size()];
+            ids.forEach((name, id) -> names[id] = name);
+            return names;
+        }
+
+        int size() {
+            return places.length;
+        }
+
+        int codeId(String value) {
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i].equals(value)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 점수 상위 k개 (점수 최소 힙, primitive 배열)
+     */
+    static final class TopK {
+
+        private final int[] indices;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.indices = new int[Math.max(capacity, 1)];
+            this.scores = new float[Math.max(capacity, 1)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void offer(int index, float score) {
+            if (size < indices.length) {
+                indices[size] = index;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                indices[0] = index;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.indices[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        /**
+         * 점수 높은 순 장소 번호
+         */
+        int[] sortedIndices() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = indices[order[i]];
+            }
+            return sorted;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int smallest = i;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (left + 1 < size && scores[left + 1] < scores[smallest]) {
+                    smallest = left + 1;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int index = indices[a];
+            indices[a] = indices[b];
+            indices[b] = index;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.common.transaction.AfterCommit;
+import com.couple.schedule_meeting.entity.Meeting;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Meeting 엔티티 변경 시 해당 커플의 달력 캐시 무효화 (트랜잭션 커밋 후)
+ * 수정 전 년월을 알 수 없으므로 커플의 모든 월을 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingCalendarListener {
+
+    private final ObjectProvider<CalendarCache> calendarCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Meeting meeting) {
+        UUID coupleId = meeting.getCoupleId();
+        if (coupleId == null) {
+            return;
+        }
+        AfterCommit.run(() -> calendarCache.ifAvailable(cache -> cache.evictCouple(coupleId)));
+    }
+}
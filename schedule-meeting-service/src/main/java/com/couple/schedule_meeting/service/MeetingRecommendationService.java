@@ -11,10 +11,18 @@ import com.couple.schedule_meeting.entity.TmpMeeting;
 import com.couple.schedule_meeting.repository.TmpMeetingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -28,7 +36,10 @@ public class MeetingRecommendationService {
     private final RecommendationService recommendationService;
     private final WaypointRouteService waypointRouteService;
     private final TmpMeetingRepository tmpMeetingRepository;
+    private final RouteStore routeStore;
     private final UserInfoService userInfoService;
+    private final LocalPlaceScorer localPlaceScorer;
+    private final ThreadPoolTaskExecutor recommendationExecutor;
 
     /**
      * 데이트 코스 추천 요청을 처리하고 tmp_meetings 문서를 생성하여 저장합니다.
@@ -39,128 +50,218 @@ public class MeetingRecommendationService {
      */
     public TmpMeeting createMeetingRecommendation(MeetingCourseRecommendRequest request, String userId) {
         try {
-            log.info("데이트 코스 추천 시작: userId={}", userId);
-            
-            // 1. 커플 취향 정보 조회 (기본 정보 + 취향 벡터)
-            log.info("커플 취향 정보 조회 시작");
-            CoupleInfo coupleInfo = userInfoService.getCoupleInfoByUserId(userId);
-
-            UserInfo user1Info = coupleInfo.getUser1();
-            UserInfo user2Info = coupleInfo.getUser2();
-            
-            // 2. RecommendationRequest 생성
-            RecommendationRequest recommendationRequest = RecommendationRequest.builder()
-                    .user1(RecommendationRequest.UserInfo.builder()
-                            .gender(user1Info.getGender())
-                            .preferences(user1Info.getPreferenceVector())
-                            .build())
-                    .user2(RecommendationRequest.UserInfo.builder()
-                            .gender(user2Info.getGender())
-                            .preferences(user2Info.getPreferenceVector())
-                            .build())
-                    .date(request.getDate().toString())
-                    .weather(request.getWeather())
-                    .startTime(request.getStartTime().toString())
-                    .endTime(request.getEndTime().toString())
-                    .keywords(request.getKeyword())
-                    .build();
-            
-            // 3. 외부 추천 API 호출
-            log.info("외부 추천 API 호출 시작");
-            RecommendationResponse recommendationResponse = recommendationService.getRecommendations(recommendationRequest);
-            
-            if (recommendationResponse == null || recommendationResponse.getTimeSlots() == null) {
-                log.error("추천 API 응답이 null이거나 timeSlots가 없습니다.");
-                throw new RuntimeException("추천 API 응답 오류");
-            }
-            
-            log.info("추천 API 응답 성공: {}개 timeSlot", recommendationResponse.getTimeSlots().size());
-            
-            // 4. 1순위 스토어들의 이름 추출
-            log.info("1순위 스토어 이름 추출 시작");
-            List<String> topStores = extractTopStores(recommendationResponse);
-            log.info("1순위 스토어 추출 완료: {}개 스토어", topStores.size());
-            
-            // 5. 위도/경도 리스트 생성
-            log.info("위도/경도 리스트 생성 시작");
-            List<RecommendationService.LocationCoordinate> coordinates = recommendationService.getLocationCoordinates(recommendationResponse);
-            
-            if (coordinates == null || coordinates.isEmpty()) {
-                log.error("위도/경도 리스트가 비어있습니다.");
-                throw new RuntimeException("위도/경도 조회 실패");
-            }
-            
-            log.info("위도/경도 리스트 생성 완료: {}개 장소", coordinates.size());
-            
-            // 6. 상세 경로 생성 (출발지 포함)
-            log.info("상세 경로 생성 시작 (출발지 포함)");
-            List<WaypointRouteRequest.LocationCoordinate> waypoints = new ArrayList<>();
-            
-            // 출발지 추가 (currentLat, currentLon이 제공된 경우)
-            if (request.getCurrentLat() != null && request.getCurrentLon() != null) {
-                waypoints.add(WaypointRouteRequest.LocationCoordinate.builder()
-                        .name("출발지")
-                        .lon(request.getCurrentLon())
-                        .lat(request.getCurrentLat())
-                        .build());
-                log.info("출발지 추가: ({}, {})", request.getCurrentLat(), request.getCurrentLon());
+            return createMeetingRecommendationAsync(request, userId, new RecommendationListener() {}).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("데이트 코스 추천 처리 중 오류 발생: {}", cause.getMessage(), cause);
+            throw new RuntimeException("데이트 코스 추천 처리 실패", cause);
+        }
+    }
+
+    /**
+     * 데이트 코스 추천 파이프라인을 비동기로 실행합니다.
+     * 1. 커플 취향 정보 조회 및 로컬 추천 결과 선전달 → 2. 외부 추천 API 호출(논블로킹, 실패/시간 초과 시 로컬 추천 결과 사용)
+     * → 3. 시간대별 추천 결과 전달
+     * → 4. 장소 좌표 조회 → 5. 구간별 상세 경로 조회(구간이 조회될 때마다 전달) → 6. MongoDB 저장
+     * 블로킹 단계는 recommendationExecutor에서, 구간 경로 조회는 구간 전용 스레드 풀에서 실행됩니다.
+     * 반환된 future를 취소하면(클라이언트 연결 종료 등) 다음 단계로 넘어가지 않고, 대기 중인 외부 호출도 더 기다리지 않습니다.
+     * 
+     * @param request 데이트 코스 추천 요청
+     * @param userId 사용자 ID
+     * @param listener 중간 결과 수신자
+     * @return 저장된 TmpMeeting 문서
+     */
+    public CompletableFuture<TmpMeeting> createMeetingRecommendationAsync(MeetingCourseRecommendRequest request,
+                                                                          String userId,
+                                                                          RecommendationListener listener) {
+        log.info("데이트 코스 추천 시작: userId={}", userId);
+        
+        Cancellation cancellation = new Cancellation();
+        CompletableFuture<TmpMeeting> pipeline = CompletableFuture
+                .supplyAsync(() -> {
+                    cancellation.check();
+                    RecommendationRequest recommendationRequest = buildRecommendationRequest(request, userId);
+                    // 외부 추천 API 응답(수 초 ~ 수십 초) 전에 로컬 추천 결과를 먼저 전달
+                    Optional<RecommendationResponse> localResponse = localPlaceScorer.recommend(recommendationRequest,
+                            parseCoordinate(request.getCurrentLat()), parseCoordinate(request.getCurrentLon()));
+                    localResponse.ifPresent(response -> listener.onProvisionalTimeSlots(
+                            convertToTimeSlots(response.getTimeSlots()), extractTopStores(response)));
+                    return new PlannerInput(recommendationRequest, localResponse.orElse(null));
+                }, recommendationExecutor)
+                .thenCompose(input -> {
+                    // 외부 추천 API 호출
+                    log.info("외부 추천 API 호출 시작");
+                    return cancellation.track(recommendationService.getRecommendationsAsync(input.request()).toFuture())
+                            .handle((response, error) -> {
+                                cancellation.check();
+                                if (error == null && response != null && response.getTimeSlots() != null
+                                        && !response.getTimeSlots().isEmpty()) {
+                                    return response;
+                                }
+                                if (input.localResponse() == null) {
+                                    if (error != null) {
+                                        throw error instanceof CompletionException completionException
+                                                ? completionException : new CompletionException(error);
+                                    }
+                                    return response;
+                                }
+                                log.warn("외부 추천 API 실패, 로컬 추천 결과 사용: {}",
+                                        error != null ? error.getMessage() : "timeSlots 없음");
+                                return input.localResponse();
+                            });
+                })
+                .thenApplyAsync(recommendationResponse -> {
+                    cancellation.check();
+                    if (recommendationResponse == null || recommendationResponse.getTimeSlots() == null) {
+                        log.error("추천 API 응답이 null이거나 timeSlots가 없습니다.");
+                        throw new IllegalStateException("추천 API 응답 오류");
+                    }
+                    log.info("추천 API 응답 성공: {}개 timeSlot", recommendationResponse.getTimeSlots().size());
+                    
+                    // 1순위 스토어들의 이름 추출 후 시간대별 추천 결과 먼저 전달
+                    List<TmpMeeting.TimeSlot> timeSlots = convertToTimeSlots(recommendationResponse.getTimeSlots());
+                    List<String> topStores = extractTopStores(recommendationResponse);
+                    log.info("1순위 스토어 추출 완료: {}개 스토어", topStores.size());
+                    listener.onTimeSlots(timeSlots, topStores);
+                    
+                    return new PlannedCourse(timeSlots, topStores,
+                            buildWaypointRequest(request, recommendationService.getLocationCoordinates(recommendationResponse)));
+                }, recommendationExecutor)
+                .thenCompose(course -> {
+                    log.info("상세 경로 생성 시작 (출발지 포함)");
+                    return cancellation.track(waypointRouteService.getWaypointRouteAsync(course.waypointRequest(), listener::onRouteSegment))
+                            .thenApply(routeResponse -> {
+                                if (routeResponse == null) {
+                                    log.error("상세 경로 생성 실패");
+                                    throw new IllegalStateException("상세 경로 생성 실패");
+                                }
+                                log.info("상세 경로 생성 완료: {}개 segment (출발지 포함)", routeResponse.getSegments().size());
+                                return buildTmpMeeting(request, course, routeResponse);
+                            });
+                })
+                .thenApplyAsync(tmpMeeting -> {
+                    cancellation.check();
+                    // MongoDB에 저장 (경로는 routes 컬렉션에 내용 해시로 한 번만 저장)
+                    log.info("MongoDB 저장 시작");
+                    tmpMeeting.setRouteId(routeStore.store(tmpMeeting.getResults().getRoutes()));
+                    tmpMeeting.setCreatedAt(Instant.now());
+                    TmpMeeting savedMeeting = tmpMeetingRepository.save(tmpMeeting);
+                    log.info("데이트 코스 추천 완료: documentId={}", savedMeeting.getId());
+                    return savedMeeting;
+                }, recommendationExecutor);
+
+        CompletableFuture<TmpMeeting> result = new CompletableFuture<>();
+        pipeline.whenComplete((tmpMeeting, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(tmpMeeting);
             }
-            
-            // 추천된 장소들 추가 (null 좌표 제외)
-            waypoints.addAll(coordinates.stream()
-                    .filter(coord -> coord.getLongitude() != null && coord.getLatitude() != null)
-                    .map(coord -> WaypointRouteRequest.LocationCoordinate.builder()
-                            .name(coord.getStoreName())
-                            .lon(coord.getLongitude().toString())
-                            .lat(coord.getLatitude().toString())
-                            .build())
-                    .collect(Collectors.toList()));
-            
-            WaypointRouteRequest waypointRequest = WaypointRouteRequest.builder()
-                    .waypoints(waypoints)
-                    .routeType("fastest")
-                    .build();
-            
-            WaypointRouteResponse routeResponse = waypointRouteService.getWaypointRoute(waypointRequest);
-            
-            if (routeResponse == null) {
-                log.error("상세 경로 생성 실패");
-                throw new RuntimeException("상세 경로 생성 실패");
+        });
+        result.whenComplete((tmpMeeting, error) -> {
+            if (result.isCancelled()) {
+                log.info("데이트 코스 추천 취소: userId={}", userId);
+                cancellation.cancel();
             }
-            
-            log.info("상세 경로 생성 완료: {}개 segment (출발지 포함)", routeResponse.getSegments().size());
-            
-            // 7. TmpMeeting 문서 생성
-            TmpMeeting.MeetingResults results = TmpMeeting.MeetingResults.builder()
-                    .timeSlots(convertToTimeSlots(recommendationResponse.getTimeSlots()))
-                    .routes(routeResponse) // routes는 별도 컬렉션에 저장하거나 여기에 포함
-                    .build();
-            
-            TmpMeeting tmpMeeting = TmpMeeting.builder()
-                    .name(request.getName())
-                    .startTime(request.getStartTime().toString())
-                    .endTime(request.getEndTime().toString())
-                    .date(request.getDate().toString())
-                    .keyword(request.getKeyword())
-                    .weather(request.getWeather())
-                    .currentLat(request.getCurrentLat())
-                    .currentLon(request.getCurrentLon())
-                    .results(results)
-                    .stores(topStores) // 1순위 스토어들의 이름 추가
-                    .build();
-            
-            // 8. MongoDB에 저장
-            log.info("MongoDB 저장 시작");
-            TmpMeeting savedMeeting = tmpMeetingRepository.save(tmpMeeting);
-            
-            log.info("데이트 코스 추천 완료: documentId={}", savedMeeting.getId());
-            return savedMeeting;
-            
-        } catch (Exception e) {
-            log.error("데이트 코스 추천 처리 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("데이트 코스 추천 처리 실패", e);
+        });
+        return result;
+    }
+
+    /**
+     * 커플 취향 정보(기본 정보 + 취향 벡터)를 조회하여 추천 API 요청을 생성합니다.
+     */
+    private RecommendationRequest buildRecommendationRequest(MeetingCourseRecommendRequest request, String userId) {
+        log.info("커플 취향 정보 조회 시작");
+        CoupleInfo coupleInfo = userInfoService.getCoupleInfoByUserId(userId);
+
+        UserInfo user1Info = coupleInfo.getUser1();
+        UserInfo user2Info = coupleInfo.getUser2();
+        
+        return RecommendationRequest.builder()
+                .user1(RecommendationRequest.UserInfo.builder()
+                        .gender(user1Info.getGender())
+                        .preferences(user1Info.getPreferenceVector())
+                        .build())
+                .user2(RecommendationRequest.UserInfo.builder()
+                        .gender(user2Info.getGender())
+                        .preferences(user2Info.getPreferenceVector())
+                        .build())
+                .date(request.getDate().toString())
+                .weather(request.getWeather())
+                .startTime(request.getStartTime().toString())
+                .endTime(request.getEndTime().toString())
+                .keywords(request.getKeyword())
+                .build();
+    }
+
+    private Double parseCoordinate(String value) {
+        try {
+            return value != null ? Double.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            log.warn("좌표 형식 오류: {}", value);
+            return null;
         }
     }
+
+    /**
+     * 출발지와 추천 장소 좌표로 경유지 요청을 생성합니다.
+     */
+    private WaypointRouteRequest buildWaypointRequest(MeetingCourseRecommendRequest request,
+                                                      List<RecommendationService.LocationCoordinate> coordinates) {
+        if (coordinates == null || coordinates.isEmpty()) {
+            log.error("위도/경도 리스트가 비어있습니다.");
+            throw new IllegalStateException("위도/경도 조회 실패");
+        }
+        log.info("위도/경도 리스트 생성 완료: {}개 장소", coordinates.size());
+        
+        List<WaypointRouteRequest.LocationCoordinate> waypoints = new ArrayList<>();
+        
+        // 출발지 추가 (currentLat, currentLon이 제공된 경우)
+        if (request.getCurrentLat() != null && request.getCurrentLon() != null) {
+            waypoints.add(WaypointRouteRequest.LocationCoordinate.builder()
+                    .name("출발지")
+                    .lon(request.getCurrentLon())
+                    .lat(request.getCurrentLat())
+                    .build());
+            log.info("출발지 추가: ({}, {})", request.getCurrentLat(), request.getCurrentLon());
+        }
+        
+        // 추천된 장소들 추가 (null 좌표 제외)
+        waypoints.addAll(coordinates.stream()
+                .filter(coord -> coord.getLongitude() != null && coord.getLatitude() != null)
+                .map(coord -> WaypointRouteRequest.LocationCoordinate.builder()
+                        .name(coord.getStoreName())
+                        .lon(coord.getLongitude().toString())
+                        .lat(coord.getLatitude().toString())
+                        .build())
+                .collect(Collectors.toList()));
+        
+        return WaypointRouteRequest.builder()
+                .waypoints(waypoints)
+                .routeType("fastest")
+                .build();
+    }
+
+    private TmpMeeting buildTmpMeeting(MeetingCourseRecommendRequest request, PlannedCourse course,
+                                       WaypointRouteResponse routeResponse) {
+        TmpMeeting.MeetingResults results = TmpMeeting.MeetingResults.builder()
+                .timeSlots(course.timeSlots())
+                .routes(routeResponse)
+                .build();
+        
+        return TmpMeeting.builder()
+                .name(request.getName())
+                .startTime(request.getStartTime().toString())
+                .endTime(request.getEndTime().toString())
+                .date(request.getDate().toString())
+                .keyword(request.getKeyword())
+                .weather(request.getWeather())
+                .currentLat(request.getCurrentLat())
+                .currentLon(request.getCurrentLon())
+                .results(results)
+                .stores(course.topStores()) // 1순위 스토어들의 이름 추가
+                .build();
+    }
     
     /**
      * RecommendationResponse에서 LLM이 선택한 장소들의 이름을 추출
@@ -195,4 +296,74 @@ public class MeetingRecommendationService {
                         .build())
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    /**
+     * 추천 파이프라인 중간 결과 수신자
+     */
+    public interface RecommendationListener {
+
+        /**
+         * 외부 추천 API 호출 전에 로컬 추천으로 계산한 임시 시간대별 추천 결과를 전달합니다.
+         * 이후 onTimeSlots로 전달되는 결과가 최종 결과입니다.
+         */
+        default void onProvisionalTimeSlots(List<TmpMeeting.TimeSlot> timeSlots, List<String> stores) {
+        }
+
+        /**
+         * 추천 API가 응답하면 경로 조회 전에 시간대별 추천 결과를 전달합니다.
+         */
+        default void onTimeSlots(List<TmpMeeting.TimeSlot> timeSlots, List<String> stores) {
+        }
+
+        /**
+         * 구간 상세 경로가 조회될 때마다 전달합니다. (조회 완료 순서, sequence로 위치 확인)
+         */
+        default void onRouteSegment(WaypointRouteResponse.RouteSegment segment) {
+        }
+    }
+
+    /**
+     * 추천 파이프라인 취소 상태
+     * 취소되면 각 단계 시작 시 CancellationException으로 중단하고, 기다리던 외부 호출 future를 취소합니다.
+     * (외부 호출 future는 캐시가 공유하는 원본이 아닌 파생 future이므로 다른 요청에는 영향이 없습니다)
+     */
+    private static final class Cancellation {
+
+        private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
+
+        <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+            pending.add(future);
+            future.whenComplete((value, error) -> pending.remove(future));
+            if (cancelled) {
+                future.cancel(true);
+            }
+            return future;
+        }
+
+        void check() {
+            if (cancelled) {
+                throw new CancellationException("데이트 코스 추천이 취소되었습니다");
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 외부 추천 API 요청과 실패 시 사용할 로컬 추천 결과 (없으면 null)
+     */
+    private record PlannerInput(RecommendationRequest request, RecommendationResponse localResponse) {
+    }
+
+    /**
+     * 추천 API 응답으로 확정된 코스 (경로 조회 대기)
+     */
+    private record PlannedCourse(List<TmpMeeting.TimeSlot> timeSlots,
+                                 List<String> topStores,
+                                 WaypointRouteRequest waypointRequest) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.common.transaction.AfterCommit;
+import com.couple.schedule_meeting.entity.Meeting;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Meeting 삭제 시 경로의 참조 목록에서 미팅을 제거 (트랜잭션 커밋 후)
+ * 경로는 내용 해시로 공유되므로 남은 참조가 없을 때만 만료 대상으로 전환됩니다. (RouteStore.unpin)
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingRouteListener {
+
+    private final ObjectProvider<RouteStore> routeStore;
+
+    @PostRemove
+    public void onRemoved(Meeting meeting) {
+        String routeId = meeting.getRouteId();
+        UUID meetingId = meeting.getId();
+        if (routeId == null) {
+            return;
+        }
+        AfterCommit.run(() -> routeStore.ifAvailable(store -> store.unpin(routeId, meetingId)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.transaction.AfterCommit;
 import com.couple.schedule_meeting.dto.WaypointRouteResponse;
 import com.couple.schedule_meeting.entity.*;
 import com.couple.schedule_meeting.repository.*;
@@ -13,8 +14,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -25,8 +28,8 @@ public class MeetingSaveService {
     private final MeetingRepository meetingRepository;
     private final MeetingPlaceRepository meetingPlaceRepository;
     private final MeetingKeywordRepository meetingKeywordRepository;
-    private final RouteRepository routeRepository;
-    private final PlaceRepository placeRepository;
+    private final RouteStore routeStore;
+    private final PlaceNameResolver placeNameResolver;
 
     /**
      * TmpMeeting 문서를 조회하여 Meeting, MeetingPlaces, MeetingKeywords, Route를 저장
@@ -48,8 +51,8 @@ public class MeetingSaveService {
             
             log.info("Meeting 저장 성공: meetingId={}", savedMeeting.getId());
             
-            // 3. Route 저장
-            saveRouteFromTmpMeeting(tmpMeeting, savedMeeting.getId());
+            // 3. Route 영구 보관 (경로 본문은 복사하지 않고 routeId로 참조)
+            pinRouteOfTmpMeeting(tmpMeeting, savedMeeting.getId());
             
             // 4. MeetingPlaces 저장
             saveMeetingPlacesFromTmpMeeting(tmpMeeting, savedMeeting.getId());
@@ -88,22 +91,29 @@ public class MeetingSaveService {
                 .startTime(startDateTime)
                 .endTime(endDateTime)
                 .date(localDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                .routeId(tmpMeeting.getRouteId())
                 .build();
     }
     
     /**
-     * TmpMeeting의 routes를 Route 엔티티로 저장
+     * TmpMeeting이 참조하는 경로를 만료 대상에서 제외
+     * 경로가 없거나 만료되었으면 미팅 저장을 실패시키고, 영구 보관은 커밋 후에 반영합니다.
      */
-    private void saveRouteFromTmpMeeting(TmpMeeting tmpMeeting, UUID meetingId) {
-        if (tmpMeeting.getResults() != null && tmpMeeting.getResults().getRoutes() != null) {
-            // routes 값을 그대로 저장
-            Route route = Route.builder()
-                    .routes(tmpMeeting.getResults().getRoutes())
-                    .build();
-            
-            Route savedRoute = routeRepository.save(route);
-            log.info("Route 저장 성공: routeId={}", savedRoute.getId());
+    private void pinRouteOfTmpMeeting(TmpMeeting tmpMeeting, UUID meetingId) {
+        String routeId = tmpMeeting.getRouteId();
+        if (routeId == null) {
+            return;
+        }
+        if (!routeStore.reserve(routeId)) {
+            throw new IllegalStateException("경로가 만료되었거나 존재하지 않습니다: routeId=" + routeId);
         }
+        AfterCommit.run(() -> {
+            if (routeStore.pin(routeId, meetingId)) {
+                log.info("Route 영구 보관: routeId={}", routeId);
+            } else {
+                log.error("Route 영구 보관 실패 - 경로 없음: routeId={}", routeId);
+            }
+        });
     }
     
     /**
@@ -111,17 +121,16 @@ public class MeetingSaveService {
      */
     private void saveMeetingPlacesFromTmpMeeting(TmpMeeting tmpMeeting, UUID meetingId) {
         if (tmpMeeting.getStores() != null && !tmpMeeting.getStores().isEmpty()) {
-            List<MeetingPlace> meetingPlaces = tmpMeeting.getStores().stream()
-                    .map(storeName -> {
-                        Place place = placeRepository.findByName(storeName)
-                                .orElse(null);
-                        
-                        return MeetingPlace.builder()
-                                .meetingId(meetingId)
-                                .place(place)
-                                .sequence(tmpMeeting.getStores().indexOf(storeName) + 1)
-                                .build();
-                    })
+            List<String> stores = tmpMeeting.getStores();
+            // 코스 전체 가게 이름을 한 번에 조회
+            Map<String, Place> places = placeNameResolver.resolveAll(stores);
+            
+            List<MeetingPlace> meetingPlaces = IntStream.range(0, stores.size())
+                    .mapToObj(i -> MeetingPlace.builder()
+                            .meetingId(meetingId)
+                            .place(places.get(stores.get(i)))
+                            .sequence(i + 1)
+                            .build())
                     .collect(Collectors.toList());
             
             meetingPlaceRepository.saveAll(meetingPlaces);
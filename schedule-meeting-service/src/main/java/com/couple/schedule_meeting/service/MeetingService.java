@@ -8,7 +8,6 @@ import com.couple.schedule_meeting.exception.MeetingAccessDeniedException;
 import com.couple.schedule_meeting.exception.MeetingNotFoundException;
 import com.couple.schedule_meeting.repository.MeetingPlaceRepository;
 import com.couple.schedule_meeting.repository.MeetingRepository;
-import com.couple.schedule_meeting.repository.RouteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,11 +23,48 @@ public class MeetingService {
     
     private final MeetingRepository meetingRepository;
     private final MeetingPlaceRepository meetingPlaceRepository;
-    private final RouteRepository routeRepository;
+    private final RouteStore routeStore;
+    private final RouteGeometryCodec routeGeometryCodec;
     
     @Transactional(readOnly = true)
     public MeetingResponse getMeetingById(UUID meetingId, UUID coupleId) {
-        // Meeting 조회
+        return getMeetingById(meetingId, coupleId, false);
+    }
+    
+    /**
+     * 미팅 조회
+     *
+     * @param summaryOnly true면 경로의 요약과 구간 메타데이터만 포함 (형상은 getRouteSegmentLegs로 구간별 조회)
+     */
+    @Transactional(readOnly = true)
+    public MeetingResponse getMeetingById(UUID meetingId, UUID coupleId, boolean summaryOnly) {
+        Meeting meeting = findMeetingWithPermission(meetingId, coupleId);
+        
+        // MeetingPlace 리스트 조회
+        List<MeetingPlace> meetingPlaces = meetingPlaceRepository.findByMeetingIdOrderBySequenceAsc(meetingId);
+        
+        // Route 조회 (MongoDB에서)
+        Route route = routeStore.find(meeting.getRouteId());
+        Object routes = route != null ? route.getRoutes() : null;
+        
+        return MeetingResponse.from(meeting, meetingPlaces,
+                summaryOnly ? routeGeometryCodec.summarize(routes) : routeGeometryCodec.expand(routes));
+    }
+    
+    /**
+     * 미팅 경로의 sequence 구간 legs 조회
+     *
+     * @param encoded true면 형상을 encoded polyline으로, false면 좌표열로 반환
+     * @return 구간 legs, 경로나 구간이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Object getRouteSegmentLegs(UUID meetingId, UUID coupleId, int sequence, boolean encoded) {
+        Meeting meeting = findMeetingWithPermission(meetingId, coupleId);
+        Route route = routeStore.find(meeting.getRouteId());
+        return route != null ? routeGeometryCodec.segmentLegs(route.getRoutes(), sequence, encoded) : null;
+    }
+    
+    private Meeting findMeetingWithPermission(UUID meetingId, UUID coupleId) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new MeetingNotFoundException(meetingId));
         
@@ -36,13 +72,6 @@ public class MeetingService {
         if (!meeting.getCoupleId().equals(coupleId)) {
             throw new MeetingAccessDeniedException(meetingId, coupleId);
         }
-        
-        // MeetingPlace 리스트 조회
-        List<MeetingPlace> meetingPlaces = meetingPlaceRepository.findByMeetingIdOrderBySequenceAsc(meetingId);
-        
-        // Route 조회 (MongoDB에서)
-        Route route = routeRepository.findById(meetingId.toString()).orElse(null);
-        
-        return MeetingResponse.from(meeting, meetingPlaces, route);
+        return meeting;
     }
 } 
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.resilience.ResilienceException;
+import com.couple.common.resilience.ResilienceRegistry;
+import com.couple.schedule_meeting.config.ResilienceConfig;
 import com.couple.schedule_meeting.dto.SkPedestrianResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +18,8 @@ import org.springframework.beans.factory.annotation.Value;
 @RequiredArgsConstructor
 public class PedestrianService {
 
-    private final WebClient webClient;
+    private final WebClient skWebClient;
+    private final ResilienceRegistry resilienceRegistry;
     
     private static final String PEDESTRIAN_API_URL = "https://apis.openapi.sk.com/tmap/routes/pedestrian";
     
@@ -52,16 +56,18 @@ public class PedestrianService {
                     String.format("(%s, %s)", endX, endY));
             log.info("요청 JSON: {}", jsonBody);
 
-            // WebClient를 사용하여 SK 보행자 경로 API에 요청 전송
-            String responseBody = webClient.post()
-                    .uri(PEDESTRIAN_API_URL)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header("appKey", skAppKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(jsonBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            // WebClient를 사용하여 SK 보행자 경로 API에 요청 전송 (시간 제한/동시 호출 제한/회로 차단 적용)
+            String responseBody = resilienceRegistry.get(ResilienceConfig.SK_PEDESTRIAN).executeIdempotent(
+                    () -> skWebClient.post()
+                            .uri(PEDESTRIAN_API_URL)
+                            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                            .header("appKey", skAppKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(jsonBody)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .toFuture(),
+                    null);
 
             if (responseBody != null) {
                 log.info("SK 보행자 경로 API 응답 성공");
@@ -79,6 +85,9 @@ public class PedestrianService {
             log.error("SK 보행자 경로 API HTTP 오류: {} - {}", e.getStatusCode(), e.getMessage());
             log.error("응답 바디: {}", e.getResponseBodyAsString());
             return null;
+        } catch (ResilienceException e) {
+            log.warn("SK 보행자 경로 API 호출 중단: {}", e.getMessage());
+            return null;
         } catch (Exception e) {
             log.error("SK 보행자 경로 API 서비스 오류: {}", e.getMessage(), e);
             return null;
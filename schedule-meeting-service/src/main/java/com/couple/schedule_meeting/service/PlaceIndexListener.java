@@ -0,0 +1,40 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.common.transaction.AfterCommit;
+import com.couple.schedule_meeting.entity.Place;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Place 엔티티 변경을 공간 인덱스와 이름 사전에 장소 단위로 반영 (트랜잭션 커밋 후)
+ * EntityManagerFactory 생성 중에 만들어지므로 인덱스와 사전은 지연 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceIndexListener {
+
+    private final ObjectProvider<PlaceSpatialIndex> placeSpatialIndex;
+    private final ObjectProvider<PlaceNameResolver> placeNameResolver;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Place place) {
+        AfterCommit.run(() -> {
+            placeSpatialIndex.ifAvailable(index -> index.upsert(place));
+            placeNameResolver.ifAvailable(resolver -> resolver.register(place));
+        });
+    }
+
+    @PostRemove
+    public void onRemoved(Place place) {
+        String placeId = place.getId();
+        AfterCommit.run(() -> {
+            placeSpatialIndex.ifAvailable(index -> index.remove(placeId));
+            placeNameResolver.ifAvailable(resolver -> resolver.unregister(placeId));
+        });
+    }
+}
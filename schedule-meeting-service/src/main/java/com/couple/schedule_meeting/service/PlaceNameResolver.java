@@ -0,0 +1,139 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.entity.Place;
+import com.couple.schedule_meeting.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 결과의 가게 이름 → Place 일괄 변환
+ * 1. 코스 전체 이름을 한 번의 IN 쿼리로 정확히 일치하는 장소를 찾습니다.
+ * 2. 찾지 못한 이름은 공백/문장부호/대소문자를 무시한 정규화 이름으로 이름 사전에서 찾습니다.
+ *    (LLM이 "스타벅스 강남점"을 "스타벅스강남점"처럼 바꿔 쓰는 경우)
+ * 이름 사전은 정규화 이름 → 장소 ID 집합으로, 같은 이름의 장소가 여럿이어도 하나가 삭제/변경될 때 나머지는 남습니다.
+ * 공간 인덱스 적재 직후 한 번 채우고, 이후 변경은 PlaceIndexListener가 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceNameResolver {
+
+    private static final Pattern NON_NAME_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    // 정규화한 이름 → 장소 ID (ID 순으로 정렬해 같은 이름이면 항상 같은 장소를 고름)
+    private final Map<String, Set<String>> idsByNormalizedName = new ConcurrentHashMap<>();
+    // 장소 ID → 등록된 정규화 이름 (이름 변경/삭제 시 이전 이름 제거용)
+    private final Map<String, String> normalizedNameById = new ConcurrentHashMap<>();
+
+    /**
+     * 공간 인덱스 적재 후 이름 사전 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(PlaceSpatialIndex.LOAD_ORDER + 1)
+    public void load() {
+        placeSpatialIndex.places().forEach(this::register);
+        log.info("장소 이름 사전 적재 완료: 이름 {}개", idsByNormalizedName.size());
+    }
+
+    /**
+     * 장소 이름 등록 (이름이 바뀐 경우 이전 이름은 제거)
+     */
+    public synchronized void register(Place place) {
+        unregister(place.getId());
+        if (place.getName() == null) {
+            return;
+        }
+        String normalizedName = normalize(place.getName());
+        idsByNormalizedName.computeIfAbsent(normalizedName, key -> new ConcurrentSkipListSet<>()).add(place.getId());
+        normalizedNameById.put(place.getId(), normalizedName);
+    }
+
+    /**
+     * 장소 이름 제거 (같은 이름의 다른 장소는 유지)
+     */
+    public synchronized void unregister(String placeId) {
+        String normalizedName = normalizedNameById.remove(placeId);
+        if (normalizedName == null) {
+            return;
+        }
+        idsByNormalizedName.computeIfPresent(normalizedName, (key, ids) -> {
+            ids.remove(placeId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 정규화한 이름으로 장소 조회 (공간 인덱스에 등록된 장소 중 ID가 가장 작은 장소)
+     */
+    public Optional<Place> findByNormalizedName(String normalizedName) {
+        Set<String> ids = idsByNormalizedName.get(normalizedName);
+        if (ids == null) {
+            return Optional.empty();
+        }
+        for (String placeId : ids) {
+            Optional<Place> place = placeSpatialIndex.find(placeId);
+            if (place.isPresent()) {
+                return place;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 이름 목록을 장소로 변환
+     *
+     * @return 입력 이름 → 장소 (찾지 못한 이름은 포함되지 않음)
+     */
+    public Map<String, Place> resolveAll(Collection<String> names) {
+        Set<String> distinctNames = names.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Place> resolved = new HashMap<>();
+        if (distinctNames.isEmpty()) {
+            return resolved;
+        }
+
+        for (Place place : placeRepository.findByNameIn(distinctNames)) {
+            resolved.putIfAbsent(place.getName(), place);
+        }
+
+        for (String name : distinctNames) {
+            if (!resolved.containsKey(name)) {
+                findByNormalizedName(normalize(name))
+                        .ifPresent(place -> {
+                            log.info("가게 이름 정규화 매칭: '{}' -> '{}'", name, place.getName());
+                            resolved.put(name, place);
+                        });
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 이름 비교용 정규화 (유니코드 NFKC, 소문자, 문자/숫자 외 제거)
+     */
+    public static String normalize(String name) {
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return NON_NAME_CHARACTERS.matcher(normalized).replaceAll("");
+    }
+}
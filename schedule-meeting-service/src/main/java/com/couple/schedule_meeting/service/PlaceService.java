@@ -1,89 +1,45 @@
 package com.couple.schedule_meeting.service;
 
-import com.couple.schedule_meeting.dto.KakaoRegionResponse;
 import com.couple.schedule_meeting.dto.PlaceRankResponse;
 import com.couple.schedule_meeting.dto.PlaceResponse;
 import com.couple.schedule_meeting.entity.Place;
 import com.couple.schedule_meeting.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PlaceService {
+    private static final int RANK_LIMIT = 5;
+
     private final PlaceRepository placeRepository;
-    private final KakaoApiService kakaoApiService;
+    private final RegionCache regionCache;
+    private final PlaceSpatialIndex placeSpatialIndex;
+
+    @Value("${place.rank.radius-meters:3000}")
+    private double rankRadiusMeters;
 
     public Place getPlaceById(String placeId) {
         return placeRepository.findById(placeId)
                 .orElseThrow(() -> new RuntimeException("Place not found with id: " + placeId));
     }
     
+    /**
+     * 좌표 주변 장소 랭킹 조회
+     * 공간 인덱스에서 반경 내 상위 장소를 찾고, 인덱스가 아직 준비되지 않았으면 행정구역 기반 조회로 대체합니다.
+     */
     public List<PlaceRankResponse> getPlaceRanks(double lat, double lon, String code) {
         log.info("장소 랭킹 조회 시작 - lat: {}, lon: {}, code: {}", lat, lon, code);
         
-        // Kakao API를 통해 좌표를 행정구역으로 변환
-        String region = kakaoApiService.getRegionFromCoordinates(lon, lat)
-                .map(response -> {
-                    if (response.getDocuments() != null && !response.getDocuments().isEmpty()) {
-                        KakaoRegionResponse.Document doc = response.getDocuments().get(0);
-                        String region2depth = doc.getRegion2depthName(); // 구/군 단위 사용
-                        log.info("Kakao API에서 추출한 행정구역: {}", region2depth);
-                        return region2depth;
-                    }
-                    log.warn("Kakao API 응답에서 documents가 비어있습니다");
-                    return null;
-                })
-                .block();
-        
-        if (region == null) {
-            log.error("좌표에서 행정구역 정보를 가져오는데 실패했습니다");
-            throw new RuntimeException("Failed to get region information from coordinates");
-        }
-        
-        log.info("데이터베이스 조회 시작 - code: {}, region: {}", code, region);
-        
-        // 전체 장소 수 확인 (디버깅용)
-        long totalPlaces = placeRepository.count();
-        log.info("전체 장소 수: {}", totalPlaces);
-        
-        // code별 장소 수 확인 (디버깅용)
-        List<Place> allPlaces = placeRepository.findAll();
-        long codeCount = allPlaces.stream().filter(p -> p.getCode().equals(code)).count();
-        log.info("code '{}'인 장소 수: {}", code, codeCount);
-        
-        // 실제 데이터베이스에 있는 code 값들 확인 (디버깅용)
-        List<String> uniqueCodes = allPlaces.stream()
-                .map(Place::getCode)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
-        log.info("데이터베이스에 있는 모든 code: {}", uniqueCodes);
-        
-        // code별 개수도 확인
-        Map<String, Long> codeCounts = allPlaces.stream()
-                .collect(Collectors.groupingBy(Place::getCode, Collectors.counting()));
-        log.info("code별 장소 개수: {}", codeCounts);
-        
-        // 주소에 해당 지역이 포함된 장소 수 확인 (디버깅용)
-        long regionCount = allPlaces.stream().filter(p -> p.getAddress().contains(region)).count();
-        log.info("주소에 '{}'가 포함된 장소 수: {}", region, regionCount);
-        
-        // 해당 행정구역과 code로 장소 조회 (ID 순서로 정렬)
-        List<Place> places = placeRepository.findByCodeAndAddressContainingOrderByIdAsc(code, region);
-        
-        // 상위 5개만 선택
-        if (places.size() > 5) {
-            places = places.subList(0, 5);
-        }
-        
-        log.info("데이터베이스 조회 완료 - 조회된 장소 수: {}", places.size());
+        List<Place> places = placeSpatialIndex.isReady()
+                ? placeSpatialIndex.findTopNearby(code, lat, lon, rankRadiusMeters, RANK_LIMIT)
+                : findPlacesByRegion(lat, lon, code);
         
         List<PlaceRankResponse> responses = places.stream()
                 .map(place -> {
@@ -98,4 +54,29 @@ public class PlaceService {
         log.info("장소 랭킹 조회 완료 - 반환할 장소 수: {}", responses.size());
         return responses;
     }
+
+    /**
+     * 좌표를 행정구역(구/군)으로 변환한 뒤 주소 검색 (공간 인덱스 적재 전 대체 경로)
+     */
+    private List<Place> findPlacesByRegion(double lat, double lon, String code) {
+        log.warn("장소 공간 인덱스가 준비되지 않아 행정구역 기반으로 조회합니다");
+        
+        // 좌표를 행정구역으로 변환 (캐시 미스 시에만 Kakao API 호출)
+        String region = regionCache.getDistrict(lon, lat);
+        log.info("좌표에서 추출한 행정구역: {}", region);
+        
+        if (region == null) {
+            log.error("좌표에서 행정구역 정보를 가져오는데 실패했습니다");
+            throw new RuntimeException("Failed to get region information from coordinates");
+        }
+        
+        // 해당 행정구역과 code로 장소 조회 (ID 순서로 정렬)
+        List<Place> places = placeRepository.findByCodeAndAddressContainingOrderByIdAsc(code, region);
+        
+        // 상위 5개만 선택
+        if (places.size() > RANK_LIMIT) {
+            places = places.subList(0, RANK_LIMIT);
+        }
+        return places;
+    }
 } 
\ No newline at end of file
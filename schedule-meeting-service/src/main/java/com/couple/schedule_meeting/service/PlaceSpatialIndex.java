@@ -0,0 +1,251 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.entity.Place;
+import com.couple.schedule_meeting.repository.PlaceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장소 공간 인덱스 (category code별 위경도 격자)
+ * - 장소를 고정 크기 격자 셀에 나눠 담고, 반경 검색 시 반경을 덮는 셀만 확인합니다.
+ * - 좌표와 평점은 double로 보관해 거리 계산 시 BigDecimal 연산을 하지 않습니다.
+ * - 셀은 배열 단위로 교체(copy-on-write)되어 조회는 잠금 없이 수행되고, 변경은 장소 단위로 반영됩니다.
+ * - 기동 시 한 번 전체를 적재하고, 이후 변경은 PlaceIndexListener로 장소 단위로만 반영합니다.
+ *   (JPA를 거치지 않고 DB에 직접 적재한 장소는 다음 기동 시 반영됩니다)
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    // 기동 시 적재 순서 (이 인덱스를 읽어 채우는 PlaceNameResolver보다 먼저)
+    static final int LOAD_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final IndexedPlace[] EMPTY_CELL = new IndexedPlace[0];
+
+    // 점수 높은 순, 같으면 가까운 순
+    private static final Comparator<Candidate> RANK_ORDER = Comparator
+            .comparingDouble((Candidate candidate) -> candidate.place().rating())
+            .thenComparing(Comparator.comparingDouble(Candidate::distanceMeters).reversed());
+
+    private final PlaceRepository placeRepository;
+    private final double cellSizeDegrees;
+    // code → (셀 키 → 셀에 속한 장소)
+    private final Map<String, Map<Long, IndexedPlace[]>> grids = new ConcurrentHashMap<>();
+    private final Map<String, IndexedPlace> byId = new ConcurrentHashMap<>();
+    // 장소가 추가/변경/삭제될 때마다 증가 (LocalPlaceScorer의 재구성 판단용)
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean ready = false;
+
+    public PlaceSpatialIndex(PlaceRepository placeRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${place.index.cell-size-degrees:0.01}") double cellSizeDegrees) {
+        this.placeRepository = placeRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        Gauge.builder("place.index.size", byId, Map::size)
+                .description("공간 인덱스에 등록된 장소 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 후 전체 장소 적재 (이후 변경은 PlaceIndexListener가 장소 단위로 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(LOAD_ORDER)
+    public void load() {
+        try {
+            int indexed = 0;
+            for (Place place : placeRepository.findAll()) {
+                if (isIndexable(place)) {
+                    upsert(place);
+                    indexed++;
+                }
+            }
+            ready = true;
+            log.info("장소 공간 인덱스 적재 완료: {}개", indexed);
+        } catch (Exception e) {
+            log.error("장소 공간 인덱스 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 인덱스에 등록된 전체 장소 (좌표와 code가 있는 장소만)
+     */
+    public List<Place> places() {
+        return byId.values().stream().map(IndexedPlace::place).toList();
+    }
+
+    /**
+     * 장소 추가 또는 변경 반영 (좌표가 없는 장소는 인덱스에서 제외)
+     */
+    public synchronized void upsert(Place place) {
+        IndexedPlace previous = byId.get(place.getId());
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        if (!isIndexable(place)) {
+            byId.remove(place.getId());
+            version.incrementAndGet();
+            return;
+        }
+
+        IndexedPlace indexed = new IndexedPlace(place,
+                place.getLatitude().doubleValue(),
+                place.getLongitude().doubleValue(),
+                place.getRating() != null ? place.getRating().doubleValue() : 0.0);
+        grids.computeIfAbsent(place.getCode(), code -> new ConcurrentHashMap<>())
+                .compute(cellKey(indexed.lat(), indexed.lon()), (key, cell) -> {
+                    IndexedPlace[] base = cell != null ? cell : EMPTY_CELL;
+                    IndexedPlace[] updated = Arrays.copyOf(base, base.length + 1);
+                    updated[base.length] = indexed;
+                    return updated;
+                });
+        byId.put(place.getId(), indexed);
+        version.incrementAndGet();
+    }
+
+    /**
+     * 장소 삭제 반영
+     */
+    public synchronized void remove(String placeId) {
+        IndexedPlace previous = byId.remove(placeId);
+        if (previous != null) {
+            removeFromCell(previous);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * ID로 장소 조회 (인덱스에 등록된 장소만)
+     */
+    public Optional<Place> find(String placeId) {
+        return Optional.ofNullable(byId.get(placeId)).map(IndexedPlace::place);
+    }
+
+    /**
+     * (lat, lon)에서 반경 radiusMeters 안에 있는 code 장소 중 상위 limit개 (평점 높은 순, 같으면 가까운 순)
+     */
+    public List<Place> findTopNearby(String code, double lat, double lon, double radiusMeters, int limit) {
+        Map<Long, IndexedPlace[]> grid = grids.get(code);
+        if (grid == null || limit <= 0) {
+            return List.of();
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lonDelta = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(cosLat, 1e-6));
+        long minLatIdx = cellIndex(lat - latDelta);
+        long maxLatIdx = cellIndex(lat + latDelta);
+        long minLonIdx = cellIndex(lon - lonDelta);
+        long maxLonIdx = cellIndex(lon + lonDelta);
+
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, RANK_ORDER);
+        long cellCount = (maxLatIdx - minLatIdx + 1) * (maxLonIdx - minLonIdx + 1);
+        if (cellCount > grid.size()) {
+            // 반경이 넓으면 비어 있는 셀까지 훑지 않고 존재하는 셀만 확인
+            for (IndexedPlace[] cell : grid.values()) {
+                collect(cell, lat, lon, cosLat, radiusMeters, limit, top);
+            }
+        } else {
+            for (long latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+                for (long lonIdx = minLonIdx; lonIdx <= maxLonIdx; lonIdx++) {
+                    IndexedPlace[] cell = grid.get(cellKey(latIdx, lonIdx));
+                    if (cell != null) {
+                        collect(cell, lat, lon, cosLat, radiusMeters, limit, top);
+                    }
+                }
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(RANK_ORDER.reversed());
+        List<Place> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(candidate.place().place());
+        }
+        return result;
+    }
+
+    private void collect(IndexedPlace[] cell, double lat, double lon, double cosLat,
+                         double radiusMeters, int limit, PriorityQueue<Candidate> top) {
+        for (IndexedPlace place : cell) {
+            double distance = distanceMeters(lat, lon, cosLat, place.lat(), place.lon());
+            if (distance > radiusMeters) {
+                continue;
+            }
+            top.add(new Candidate(place, distance));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private static boolean isIndexable(Place place) {
+        return place.getLatitude() != null && place.getLongitude() != null && place.getCode() != null;
+    }
+
+    private void removeFromCell(IndexedPlace indexed) {
+        Map<Long, IndexedPlace[]> grid = grids.get(indexed.place().getCode());
+        if (grid == null) {
+            return;
+        }
+        grid.computeIfPresent(cellKey(indexed.lat(), indexed.lon()), (key, cell) -> {
+            IndexedPlace[] updated = Arrays.stream(cell)
+                    .filter(place -> !place.place().getId().equals(indexed.place().getId()))
+                    .toArray(IndexedPlace[]::new);
+            return updated.length == 0 ? null : updated;
+        });
+    }
+
+    private long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private long cellKey(double lat, double lon) {
+        return cellKey(cellIndex(lat), cellIndex(lon));
+    }
+
+    private static long cellKey(long latIdx, long lonIdx) {
+        return (latIdx << 32) | (lonIdx & 0xffffffffL);
+    }
+
+    /**
+     * 등장방형 근사 거리 (미터, 수 km 반경에서 충분히 정확)
+     */
+    private static double distanceMeters(double lat1, double lon1, double cosLat, double lat2, double lon2) {
+        double dx = (lon2 - lon1) * cosLat * METERS_PER_DEGREE_LAT;
+        double dy = (lat2 - lat1) * METERS_PER_DEGREE_LAT;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private record IndexedPlace(Place place, double lat, double lon, double rating) {
+    }
+
+    private record Candidate(IndexedPlace place, double distanceMeters) {
+    }
+}
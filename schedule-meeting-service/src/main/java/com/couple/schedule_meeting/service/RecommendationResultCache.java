@@ -0,0 +1,150 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.RecommendationRequest;
+import com.couple.schedule_meeting.dto.RecommendationResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 외부 추천 API 결과 캐시
+ * - 키: 양자화한 두 사람의 취향 벡터 + 날짜/날씨/시간대/키워드의 SHA-256 (두 사람 순서와 키워드 순서는 무시)
+ * - fresh-minutes 이내 결과는 그대로, max-stale-minutes 이내 결과는 즉시 반환하면서 백그라운드로 갱신합니다. (stale-while-revalidate)
+ * - 같은 키의 동시 요청(커플이 동시에 추천을 누른 경우 등)과 갱신은 한 번의 API 호출로 합쳐집니다. (single-flight)
+ * - 실패하거나 timeSlots가 없는 응답은 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RecommendationResultCache {
+
+    private final AsyncCache<String, CachedResult> cache;
+    private final Map<String, CompletableFuture<CachedResult>> refreshing = new ConcurrentHashMap<>();
+    private final Counter staleServed;
+    private final long freshNanos;
+    private final double preferenceQuantum;
+
+    public RecommendationResultCache(MeterRegistry meterRegistry,
+                                     @Value("${meeting.recommend.cache.max-size:2000}") long maxSize,
+                                     @Value("${meeting.recommend.cache.fresh-minutes:10}") long freshMinutes,
+                                     @Value("${meeting.recommend.cache.max-stale-minutes:60}") long maxStaleMinutes,
+                                     @Value("${meeting.recommend.cache.preference-quantum:0.01}") double preferenceQuantum) {
+        this.freshNanos = Duration.ofMinutes(freshMinutes).toNanos();
+        this.preferenceQuantum = preferenceQuantum;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(maxStaleMinutes))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "recommendation.result");
+        this.staleServed = Counter.builder("recommendation.result.stale")
+                .description("갱신 주기가 지난 결과를 반환하고 백그라운드로 갱신한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 추천 결과, 없으면 loader로 조회
+     *
+     * @param loader 외부 추천 API 호출
+     */
+    public CompletableFuture<RecommendationResponse> get(RecommendationRequest request,
+                                                         Function<RecommendationRequest, CompletableFuture<RecommendationResponse>> loader) {
+        String key = fingerprint(request);
+        return cache.get(key, (k, executor) -> load(request, loader))
+                .thenApply(cached -> {
+                    if (System.nanoTime() - cached.loadedAtNanos() > freshNanos) {
+                        refreshInBackground(key, request, loader);
+                    }
+                    return cached.response();
+                });
+    }
+
+    private void refreshInBackground(String key, RecommendationRequest request,
+                                     Function<RecommendationRequest, CompletableFuture<RecommendationResponse>> loader) {
+        staleServed.increment();
+        refreshing.computeIfAbsent(key, k -> {
+            log.debug("추천 결과 백그라운드 갱신: key={}", k);
+            CompletableFuture<CachedResult> refresh = load(request, loader);
+            refresh.whenComplete((cached, error) -> {
+                refreshing.remove(k);
+                if (error == null) {
+                    cache.put(k, CompletableFuture.completedFuture(cached));
+                } else {
+                    // 갱신 실패 시 기존 결과를 max-stale까지 계속 사용
+                    log.warn("추천 결과 갱신 실패: key={}, error={}", k, error.getMessage());
+                }
+            });
+            return refresh;
+        });
+    }
+
+    private CompletableFuture<CachedResult> load(RecommendationRequest request,
+                                                 Function<RecommendationRequest, CompletableFuture<RecommendationResponse>> loader) {
+        return loader.apply(request).thenApply(response -> {
+            if (response == null || response.getTimeSlots() == null || response.getTimeSlots().isEmpty()) {
+                // 예외로 끝난 future는 AsyncCache에 남지 않음
+                throw new IllegalStateException("추천 API 응답 오류: timeSlots가 없습니다");
+            }
+            return new CachedResult(response, System.nanoTime());
+        });
+    }
+
+    /**
+     * 요청 지문 (같은 커플/조건이면 요청자와 무관하게 같은 값)
+     */
+    String fingerprint(RecommendationRequest request) {
+        List<String> users = new ArrayList<>(2);
+        users.add(userFingerprint(request.getUser1()));
+        users.add(userFingerprint(request.getUser2()));
+        users.sort(null);
+
+        List<String> keywords = request.getKeywords() != null ? new ArrayList<>(request.getKeywords()) : new ArrayList<>();
+        keywords.sort(null);
+
+        String canonical = String.join("\n", users)
+                + "\n" + request.getDate()
+                + "\n" + request.getWeather()
+                + "\n" + request.getStartTime()
+                + "\n" + request.getEndTime()
+                + "\n" + String.join(",", keywords);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("추천 요청 지문 계산 실패", e);
+        }
+    }
+
+    private String userFingerprint(RecommendationRequest.UserInfo user) {
+        if (user == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder().append(user.getGender()).append('|');
+        if (user.getPreferences() != null) {
+            // 키 순서를 고정하고 값은 preferenceQuantum 단위로 반올림
+            new TreeMap<>(user.getPreferences()).forEach((name, value) -> sb.append(name).append('=')
+                    .append(value != null ? Math.round(value / preferenceQuantum) : "null").append(';'));
+        }
+        return sb.toString();
+    }
+
+    private record CachedResult(RecommendationResponse response, long loadedAtNanos) {
+    }
+}
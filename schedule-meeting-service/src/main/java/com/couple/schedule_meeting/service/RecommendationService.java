@@ -1,9 +1,10 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.resilience.ResilienceRegistry;
+import com.couple.schedule_meeting.config.ResilienceConfig;
 import com.couple.schedule_meeting.dto.RecommendationRequest;
 import com.couple.schedule_meeting.dto.RecommendationResponse;
 import com.couple.schedule_meeting.entity.Place;
-import com.couple.schedule_meeting.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,15 +15,19 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecommendationService {
     
-    private final WebClient webClient;
-    private final PlaceRepository placeRepository;
+    private final WebClient plannerWebClient;
+    private final PlaceNameResolver placeNameResolver;
+    private final ResilienceRegistry resilienceRegistry;
+    private final RecommendationResultCache recommendationResultCache;
+    private final LocalPlaceScorer localPlaceScorer;
 
     private static final String RECOMMENDATION_API_URL = "http://49.50.131.82:8000/api/v1/planner/generate-plan-vector";
     
@@ -54,11 +59,7 @@ public class RecommendationService {
                         .limit(5)
                         .collect(java.util.stream.Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
         
-        return webClient.post()
-                .uri(RECOMMENDATION_API_URL)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(RecommendationResponse.class)
+        return callPlanner(request)
                 .doOnSuccess(response -> {
                     log.info("=== 외부 추천 API 호출 성공 ===");
                     if (response != null) {
@@ -92,15 +93,39 @@ public class RecommendationService {
     public Mono<RecommendationResponse> getRecommendationsAsync(RecommendationRequest request) {
         log.info("외부 추천 API 비동기 호출 시작: {}", request);
         
-        return webClient.post()
-                .uri(RECOMMENDATION_API_URL)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(RecommendationResponse.class)
+        return callPlanner(request)
                 .doOnSuccess(response -> log.info("외부 추천 API 호출 성공"))
                 .doOnError(error -> log.error("외부 추천 API 호출 실패: {}", error.getMessage()));
     }
     
+    /**
+     * 추천 결과 캐시를 거쳐 외부 추천 API 호출 (같은 조건의 최근 결과가 있으면 재사용)
+     */
+    private Mono<RecommendationResponse> callPlanner(RecommendationRequest request) {
+        return Mono.fromFuture(() -> recommendationResultCache.get(request, this::requestPlan));
+    }
+    
+    /**
+     * 외부 추천 API 호출 (시간 제한/동시 호출 제한/회로 차단 적용, 생성형 호출이라 헤지하지 않음)
+     * 캐시 적재 경로에서만 실행되므로 로컬 추천 학습도 여기서 새 응답에 한 번만 반영합니다.
+     */
+    private CompletableFuture<RecommendationResponse> requestPlan(RecommendationRequest request) {
+        return resilienceRegistry.get(ResilienceConfig.PLANNER).executeAsync(
+                () -> plannerWebClient.post()
+                        .uri(RECOMMENDATION_API_URL)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(RecommendationResponse.class)
+                        .toFuture(),
+                null)
+                .thenApply(response -> {
+                    if (response != null && response.getTimeSlots() != null && !response.getTimeSlots().isEmpty()) {
+                        localPlaceScorer.learn(request, response);
+                    }
+                    return response;
+                });
+    }
+    
     /**
      * RecommendationResponse에서 각 TimeSlot의 llm_recommendation.selected 값으로
      * Place 테이블에서 위도/경도 정보를 조회하여 리스트로 반환
@@ -115,13 +140,20 @@ public class RecommendationService {
             return coordinates;
         }
         
+        // 코스 전체 가게 이름을 한 번에 조회
+        List<String> selectedStoreNames = response.getTimeSlots().stream()
+                .filter(timeSlot -> timeSlot.getLlmRecommendation() != null)
+                .map(timeSlot -> timeSlot.getLlmRecommendation().getSelected())
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, Place> places = placeNameResolver.resolveAll(selectedStoreNames);
+        
         for (RecommendationResponse.TimeSlot timeSlot : response.getTimeSlots()) {
             if (timeSlot.getLlmRecommendation() != null && timeSlot.getLlmRecommendation().getSelected() != null) {
                 String selectedStoreName = timeSlot.getLlmRecommendation().getSelected();
-                Optional<Place> place = placeRepository.findByName(selectedStoreName);
+                Place foundPlace = places.get(selectedStoreName);
                 
-                if (place.isPresent()) {
-                    Place foundPlace = place.get();
+                if (foundPlace != null) {
                     coordinates.add(LocationCoordinate.builder()
                             .storeName(selectedStoreName)
                             .latitude(foundPlace.getLatitude())
@@ -0,0 +1,195 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.KakaoRegionResponse;
+import com.couple.schedule_meeting.entity.Place;
+import com.couple.schedule_meeting.repository.PlaceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 좌표 → 행정구역(구/군) 캐시
+ * - 좌표를 약 100m 크기의 격자 셀로 양자화하고, 셀 중심 좌표의 행정구역을 셀 전체의 값으로 사용합니다.
+ * - 로컬 LRU → Redis → Kakao coord2region API 순으로 조회하며, Kakao 응답은 Redis와 로컬에 모두 저장합니다.
+ * - 행정구역은 거의 바뀌지 않으므로 Redis 항목은 긴 TTL로 보관해 재기동 후에도 재사용합니다.
+ * - place.region-cache.preseed-on-startup=true이면 기동 시 places 테이블 좌표의 셀을 미리 채웁니다.
+ */
+@Slf4j
+@Component
+public class RegionCache {
+
+    private static final String KEY_PREFIX = "region:cell:";
+
+    private final KakaoApiService kakaoApiService;
+    private final StringRedisTemplate redisTemplate;
+    private final PlaceRepository placeRepository;
+    private final Cache<Cell, String> localCache;
+    private final Counter redisHits;
+    private final Counter kakaoCalls;
+    private final double cellSizeDegrees;
+    private final Duration redisTtl;
+
+    @Value("${place.region-cache.preseed-on-startup:false}")
+    private boolean preseedOnStartup;
+
+    @Value("${place.region-cache.preseed-concurrency:4}")
+    private int preseedConcurrency;
+
+    public RegionCache(KakaoApiService kakaoApiService,
+                       StringRedisTemplate redisTemplate,
+                       PlaceRepository placeRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${place.region-cache.cell-size-degrees:0.001}") double cellSizeDegrees,
+                       @Value("${place.region-cache.local-max-size:10000}") long localMaxSize,
+                       @Value("${place.region-cache.redis-ttl-days:90}") long redisTtlDays) {
+        this.kakaoApiService = kakaoApiService;
+        this.redisTemplate = redisTemplate;
+        this.placeRepository = placeRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "place.region.local");
+        this.redisHits = Counter.builder("place.region.lookups")
+                .tag("source", "redis")
+                .description("로컬 캐시 미스 후 행정구역 조회 출처")
+                .register(meterRegistry);
+        this.kakaoCalls = Counter.builder("place.region.lookups")
+                .tag("source", "kakao")
+                .description("로컬 캐시 미스 후 행정구역 조회 출처")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좌표가 속한 구/군 이름 조회
+     *
+     * @return region_2depth_name, Kakao 응답에 행정구역이 없으면 null
+     */
+    public String getDistrict(double longitude, double latitude) {
+        return localCache.get(toCell(longitude, latitude), this::loadDistrict);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preseedOnStartup() {
+        if (preseedOnStartup) {
+            preseedFromPlaces();
+        }
+    }
+
+    /**
+     * places 테이블 좌표가 속한 셀 중 Redis에 없는 셀을 Kakao API로 미리 채웁니다. (백그라운드 실행)
+     */
+    public void preseedFromPlaces() {
+        Set<Cell> cells = new LinkedHashSet<>();
+        for (Place place : placeRepository.findAll()) {
+            if (place.getLatitude() != null && place.getLongitude() != null) {
+                cells.add(toCell(place.getLongitude().doubleValue(), place.getLatitude().doubleValue()));
+            }
+        }
+        log.info("행정구역 캐시 사전 적재 시작: 대상 셀 {}개", cells.size());
+
+        Flux.fromIterable(cells)
+                .publishOn(Schedulers.boundedElastic())
+                .filter(cell -> readRedis(cell) == null)
+                .flatMap(cell -> fetchDistrict(cell)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(district -> store(cell, district))
+                        .onErrorResume(error -> {
+                            log.warn("행정구역 사전 적재 실패: cell={}, error={}", cell, error.getMessage());
+                            return Mono.empty();
+                        }), preseedConcurrency)
+                .count()
+                .subscribe(count -> log.info("행정구역 캐시 사전 적재 완료: 신규 {}개 셀", count),
+                        error -> log.error("행정구역 캐시 사전 적재 중단: {}", error.getMessage(), error));
+    }
+
+    private String loadDistrict(Cell cell) {
+        String cached = readRedis(cell);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+
+        kakaoCalls.increment();
+        String district = fetchDistrict(cell).block();
+        if (district != null) {
+            writeRedis(cell, district);
+        }
+        return district;
+    }
+
+    private Mono<String> fetchDistrict(Cell cell) {
+        return kakaoApiService.getRegionFromCoordinates(cell.centerLon(cellSizeDegrees), cell.centerLat(cellSizeDegrees))
+                .mapNotNull(response -> {
+                    if (response.getDocuments() == null || response.getDocuments().isEmpty()) {
+                        log.warn("Kakao API 응답에서 documents가 비어있습니다: cell={}", cell);
+                        return null;
+                    }
+                    KakaoRegionResponse.Document doc = response.getDocuments().get(0);
+                    return doc.getRegion2depthName(); // 구/군 단위 사용
+                });
+    }
+
+    private void store(Cell cell, String district) {
+        writeRedis(cell, district);
+        localCache.put(cell, district);
+    }
+
+    private String readRedis(Cell cell) {
+        try {
+            return redisTemplate.opsForValue().get(cell.redisKey(cellSizeDegrees));
+        } catch (Exception e) {
+            log.warn("Redis 행정구역 조회 실패, Kakao API로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Cell cell, String district) {
+        try {
+            redisTemplate.opsForValue().set(cell.redisKey(cellSizeDegrees), district, redisTtl);
+        } catch (Exception e) {
+            log.warn("Redis 행정구역 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Cell toCell(double longitude, double latitude) {
+        return new Cell((long) Math.floor(latitude / cellSizeDegrees),
+                (long) Math.floor(longitude / cellSizeDegrees));
+    }
+
+    /**
+     * 위경도 격자 셀 (cellSizeDegrees 단위 인덱스)
+     */
+    private record Cell(long latIdx, long lonIdx) {
+
+        double centerLat(double cellSizeDegrees) {
+            return (latIdx + 0.5) * cellSizeDegrees;
+        }
+
+        double centerLon(double cellSizeDegrees) {
+            return (lonIdx + 0.5) * cellSizeDegrees;
+        }
+
+        // 셀 크기 설정이 바뀌어도 기존 키와 섞이지 않도록 셀 크기를 키에 포함
+        String redisKey(double cellSizeDegrees) {
+            return KEY_PREFIX + cellSizeDegrees + ":" + latIdx + ":" + lonIdx;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.common.geo.PolylineCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 경로(WaypointRouteResponse 구조) 형상 인코딩/분리
+ * - 저장 시 passShape.lineString, steps[].linestring 좌표열("lon,lat lon,lat ...")을
+ *   encoded polyline(encodedLineString, encodedLinestring, 정밀도 1e-6)으로 바꿉니다.
+ *   SK API 좌표는 소수점 6자리이므로 왕복 변환 시 값이 그대로 보존됩니다.
+ * - passStopList.stationList[]의 정류장별 lon/lat 문자열도 같은 방식으로 하나의 encodedStationCoordinates로 모읍니다.
+ *   모든 정류장 좌표가 소수점 6자리 형식일 때만 바꾸므로(그 외는 원본 유지) 복원 값이 원래 문자열과 같습니다.
+ * - 조회 시 원래 좌표열로 복원하거나, 형상 없이 요약/구간 메타데이터만 잘라냅니다.
+ * - 경로는 DTO 또는 MongoDB Document(Map)로 들어오므로 JSON 트리 단위로 처리합니다. 인코딩 전에 저장된 문서도 그대로 읽힙니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteGeometryCodec {
+
+    private static final List<String> GEOMETRY_FIELDS = List.of("lineString", "linestring");
+    private static final String STATION_LIST = "stationList";
+    private static final String ENCODED_STATIONS = "encodedStationCoordinates";
+    private static final Pattern FIXED6 = Pattern.compile("-?\\d+\\.\\d{6}");
+    private static final int SK_COORDINATE_PRECISION = 6;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 좌표열을 encoded polyline으로 바꾼 저장용 경로
+     */
+    public Object compact(Object routes) {
+        JsonNode tree = objectMapper.valueToTree(routes);
+        transform(tree, true);
+        return toObject(tree);
+    }
+
+    /**
+     * encoded polyline을 좌표열로 복원한 전체 경로
+     */
+    public Object expand(Object routes) {
+        if (routes == null) {
+            return null;
+        }
+        JsonNode tree = objectMapper.valueToTree(routes);
+        transform(tree, false);
+        return toObject(tree);
+    }
+
+    /**
+     * 요약과 구간 메타데이터만 남긴 경로 (구간별 legs 대신 legModes)
+     */
+    public Object summarize(Object routes) {
+        if (routes == null) {
+            return null;
+        }
+        JsonNode tree = objectMapper.valueToTree(routes);
+        JsonNode segments = tree.path("segments");
+        if (segments.isArray()) {
+            for (JsonNode segment : segments) {
+                if (segment instanceof ObjectNode segmentNode) {
+                    ArrayNode legModes = objectMapper.createArrayNode();
+                    for (JsonNode leg : segmentNode.path("legs")) {
+                        legModes.add(leg.path("mode").asText(null));
+                    }
+                    segmentNode.remove("legs");
+                    segmentNode.set("legModes", legModes);
+                }
+            }
+        }
+        return toObject(tree);
+    }
+
+    /**
+     * sequence 구간의 legs
+     *
+     * @param encoded true면 encoded polyline 그대로, false면 좌표열로 복원
+     * @return 구간 legs, 구간이 없으면 null
+     */
+    public Object segmentLegs(Object routes, int sequence, boolean encoded) {
+        if (routes == null) {
+            return null;
+        }
+        JsonNode tree = objectMapper.valueToTree(routes);
+        for (JsonNode segment : tree.path("segments")) {
+            if (segment.path("sequence").asInt(-1) == sequence) {
+                JsonNode legs = segment.path("legs");
+                transform(legs, encoded);
+                return toObject(legs);
+            }
+        }
+        return null;
+    }
+
+    private void transform(JsonNode node, boolean encode) {
+        if (node instanceof ObjectNode objectNode) {
+            for (String field : GEOMETRY_FIELDS) {
+                String encodedField = "encoded" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+                if (encode) {
+                    JsonNode plain = objectNode.get(field);
+                    String polyline = plain != null && plain.isTextual() ? encodeLineString(plain.asText()) : null;
+                    if (polyline != null) {
+                        objectNode.remove(field);
+                        objectNode.put(encodedField, polyline);
+                    }
+                } else {
+                    JsonNode polyline = objectNode.get(encodedField);
+                    if (polyline != null && polyline.isTextual()) {
+                        objectNode.remove(encodedField);
+                        objectNode.put(field, decodeLineString(polyline.asText()));
+                    }
+                }
+            }
+            if (encode) {
+                encodeStations(objectNode);
+            } else {
+                decodeStations(objectNode);
+            }
+            objectNode.elements().forEachRemaining(child -> transform(child, encode));
+        } else if (node instanceof ArrayNode arrayNode) {
+            arrayNode.forEach(child -> transform(child, encode));
+        }
+    }
+
+    /**
+     * stationList[]의 lon/lat을 encodedStationCoordinates 하나로 이동 (소수점 6자리가 아닌 좌표가 있으면 그대로 둠)
+     */
+    private static void encodeStations(ObjectNode passStopList) {
+        if (!(passStopList.get(STATION_LIST) instanceof ArrayNode stations) || stations.isEmpty()) {
+            return;
+        }
+        List<long[]> points = new ArrayList<>(stations.size());
+        for (JsonNode station : stations) {
+            JsonNode lon = station.get("lon");
+            JsonNode lat = station.get("lat");
+            if (!(station instanceof ObjectNode) || lon == null || lat == null
+                    || !FIXED6.matcher(lon.asText()).matches() || !FIXED6.matcher(lat.asText()).matches()) {
+                return;
+            }
+            long[] point = {parseFixed6(lat.asText()), parseFixed6(lon.asText())};
+            // "-0.000000"처럼 복원 문자열이 달라지는 값은 바꾸지 않음
+            if (!formatFixed6(point[0]).equals(lat.asText()) || !formatFixed6(point[1]).equals(lon.asText())) {
+                return;
+            }
+            points.add(point);
+        }
+        passStopList.put(ENCODED_STATIONS, PolylineCodec.encodeCoordinates(points,
+                point -> point[0] / 1e6, point -> point[1] / 1e6, SK_COORDINATE_PRECISION));
+        for (JsonNode station : stations) {
+            ((ObjectNode) station).remove(List.of("lon", "lat"));
+        }
+    }
+
+    /**
+     * encodedStationCoordinates를 stationList[]의 lon/lat 문자열로 복원
+     */
+    private static void decodeStations(ObjectNode passStopList) {
+        JsonNode encoded = passStopList.get(ENCODED_STATIONS);
+        if (encoded == null || !encoded.isTextual()) {
+            return;
+        }
+        long[] latLon = PolylineCodec.decodeScaledCoordinates(encoded.asText());
+        if (!(passStopList.get(STATION_LIST) instanceof ArrayNode stations) || stations.size() * 2 != latLon.length) {
+            throw new IllegalStateException("정류장 좌표 수가 정류장 목록과 다릅니다: " + latLon.length / 2);
+        }
+        for (int i = 0; i < stations.size(); i++) {
+            ObjectNode station = (ObjectNode) stations.get(i);
+            station.put("lon", formatFixed6(latLon[2 * i + 1]));
+            station.put("lat", formatFixed6(latLon[2 * i]));
+        }
+        passStopList.remove(ENCODED_STATIONS);
+    }
+
+    // 소수점 6자리 문자열을 1e-6 단위 정수로 (부동소수점 변환 없이)
+    private static long parseFixed6(String value) {
+        int dot = value.indexOf('.');
+        return Long.parseLong(value.substring(0, dot) + value.substring(dot + 1));
+    }
+
+    /**
+     * 좌표열을 encoded polyline으로 변환
+     *
+     * @return 인코딩 결과, 좌표 형식이 아니면 null
+     */
+    private static String encodeLineString(String lineString) {
+        if (lineString.isBlank()) {
+            return null;
+        }
+        List<double[]> points = new ArrayList<>();
+        try {
+            for (String point : lineString.trim().split("\\s+")) {
+                int comma = point.indexOf(',');
+                if (comma < 0) {
+                    return null;
+                }
+                points.add(new double[]{
+                        Double.parseDouble(point.substring(0, comma)),
+                        Double.parseDouble(point.substring(comma + 1))});
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return PolylineCodec.encodeCoordinates(points, point -> point[1], point -> point[0], SK_COORDINATE_PRECISION);
+    }
+
+    /**
+     * encoded polyline을 좌표열("lon,lat lon,lat ...")로 복원 (Double 포맷팅 없이 소수점 6자리)
+     */
+    private static String decodeLineString(String encoded) {
+        long[] latLon = PolylineCodec.decodeScaledCoordinates(encoded);
+        StringBuilder lineString = new StringBuilder(latLon.length * 11);
+        for (int i = 0; i < latLon.length; i += 2) {
+            if (i > 0) {
+                lineString.append(' ');
+            }
+            appendFixed6(lineString, latLon[i + 1]);
+            lineString.append(',');
+            appendFixed6(lineString, latLon[i]);
+        }
+        return lineString.toString();
+    }
+
+    private static String formatFixed6(long micro) {
+        StringBuilder out = new StringBuilder(12);
+        appendFixed6(out, micro);
+        return out.toString();
+    }
+
+    // 1e-6 단위 정수를 소수점 6자리 문자열로 추가
+    private static void appendFixed6(StringBuilder out, long micro) {
+        if (micro < 0) {
+            out.append('-');
+            micro = -micro;
+        }
+        out.append(micro / 1_000_000).append('.');
+        String fraction = Long.toString(micro % 1_000_000);
+        for (int i = fraction.length(); i < 6; i++) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    private Object toObject(JsonNode node) {
+        return objectMapper.convertValue(node, Object.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.entity.Route;
+import com.couple.schedule_meeting.entity.TmpMeeting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 경로(routes 컬렉션) 내용 주소 저장소
+ * - 경로 JSON의 SHA-256 해시를 문서 ID로 사용해 같은 코스는 한 번만 저장합니다.
+ * - 추천 단계에서 저장된 경로는 expireAt(TTL 인덱스)으로 만료되고, 미팅으로 저장될 때 expireAt을 제거해 영구 보관합니다.
+ * - 영구 보관은 참조하는 미팅 ID 집합(pinnedBy)으로 관리합니다. 미팅이 삭제되면 집합에서 빼고,
+ *   집합이 비어 있을 때만 조건부 갱신으로 다시 만료 대상으로 전환합니다. (MeetingRouteListener)
+ *   추가/제거/만료 전환이 각각 한 문서에 대한 원자적 갱신이라 동시에 저장/삭제되어도 참조 중인 경로가 만료되지 않습니다.
+ * - TmpMeeting과 Meeting은 경로 본문 대신 해시(routeId)만 참조합니다.
+ * - 형상 좌표열은 encoded polyline으로 저장합니다. (RouteGeometryCodec)
+ */
+@Slf4j
+@Component
+public class RouteStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final RouteGeometryCodec geometryCodec;
+    private final Duration unpinnedTtl;
+
+    public RouteStore(MongoTemplate mongoTemplate,
+                      ObjectMapper objectMapper,
+                      RouteGeometryCodec geometryCodec,
+                      @Value("${meeting.tmp.ttl-hours:24}") long tmpTtlHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.geometryCodec = geometryCodec;
+        this.unpinnedTtl = Duration.ofHours(tmpTtlHours);
+    }
+
+    /**
+     * 경로 저장 (같은 내용이 이미 있으면 만료 시간만 연장)
+     *
+     * @return 경로 ID (내용 해시)
+     */
+    public String store(Object routes) {
+        String routeId = hash(routes);
+        Date expireAt = Date.from(Instant.now().plus(unpinnedTtl));
+        try {
+            // 영구 보관 중인 문서(expireAt 없음)는 조건에 맞지 않아 upsert가 중복 키로 끝나며, 그대로 둡니다.
+            mongoTemplate.upsert(
+                    Query.query(Criteria.where("_id").is(routeId).and("expireAt").exists(true)),
+                    new Update().setOnInsert("routes", geometryCodec.compact(routes)).max("expireAt", expireAt),
+                    Route.class);
+        } catch (DuplicateKeyException e) {
+            log.debug("이미 영구 보관 중인 경로: routeId={}", routeId);
+        }
+        return routeId;
+    }
+
+    /**
+     * 미팅 저장 트랜잭션 동안 경로가 만료되지 않도록 만료 시간을 연장
+     *
+     * @return 경로가 있으면 true (이미 영구 보관 중인 경로 포함), 없거나 만료되었으면 false
+     */
+    public boolean reserve(String routeId) {
+        Date expireAt = Date.from(Instant.now().plus(unpinnedTtl));
+        boolean extended = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(routeId).and("expireAt").gt(new Date())),
+                new Update().max("expireAt", expireAt), Route.class).getMatchedCount() > 0;
+        return extended || mongoTemplate.exists(
+                Query.query(Criteria.where("_id").is(routeId).and("expireAt").exists(false)), Route.class);
+    }
+
+    /**
+     * 미팅의 참조를 추가하고 경로를 만료 대상에서 제외 (미팅 저장 커밋 후)
+     *
+     * @return 경로가 있으면 true
+     */
+    public boolean pin(String routeId, UUID meetingId) {
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(routeId)),
+                new Update().addToSet("pinnedBy", meetingId.toString()).unset("expireAt"),
+                Route.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * 미팅의 참조를 제거하고, 남은 참조가 없으면 경로를 다시 만료 대상으로 전환 (미팅 삭제 커밋 후)
+     */
+    public void unpin(String routeId, UUID meetingId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(routeId)),
+                new Update().pull("pinnedBy", meetingId.toString()), Route.class);
+        // 그 사이 다른 미팅이 pin했다면 pinnedBy가 비어 있지 않아 조건에 맞지 않음
+        boolean expiring = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(routeId).and("pinnedBy").size(0).and("expireAt").exists(false)),
+                new Update().set("expireAt", Date.from(Instant.now().plus(unpinnedTtl))), Route.class).getModifiedCount() > 0;
+        if (expiring) {
+            log.info("참조하는 미팅이 없어 경로 만료 예정: routeId={}", routeId);
+        }
+    }
+
+    public Route find(String routeId) {
+        return routeId != null ? mongoTemplate.findById(routeId, Route.class) : null;
+    }
+
+    /**
+     * TmpMeeting 응답용으로 참조 중인 경로 본문을 채웁니다.
+     */
+    public TmpMeeting hydrate(TmpMeeting tmpMeeting) {
+        if (tmpMeeting.getResults() != null && tmpMeeting.getResults().getRoutes() == null) {
+            Route route = find(tmpMeeting.getRouteId());
+            if (route != null) {
+                tmpMeeting.getResults().setRoutes(geometryCodec.expand(route.getRoutes()));
+            }
+        }
+        return tmpMeeting;
+    }
+
+    private String hash(Object routes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(routes));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("경로 해시 계산 실패", e);
+        }
+    }
+}
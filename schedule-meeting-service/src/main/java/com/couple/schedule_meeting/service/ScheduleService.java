@@ -15,8 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +28,7 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final MeetingRepository meetingRepository;
     private final UserProfileService userProfileService;
+    private final CalendarCache calendarCache;
     private static final Logger log = LoggerFactory.getLogger(ScheduleService.class);
 
     public Schedule createSchedule(ScheduleCreateRequest request, UUID coupleId, UUID userId) {
@@ -94,18 +97,80 @@ public class ScheduleService {
         return newValue != null ? newValue : defaultValue;
     }
 
+    /**
+     * 달력 조회 (캐시된 응답이 있으면 그대로 반환)
+     * 커플 정보 조회에 실패한 응답은 생일/기념일이 빠져 있으므로 캐시하지 않습니다.
+     */
     @Transactional(readOnly = true)
     public ScheduleCalendarResponse getCalendar(UUID coupleId, int year, int month, String userId) {
+        ScheduleCalendarResponse cached = calendarCache.get(coupleId, year, month);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = calendarCache.generation(coupleId);
+
+        // 생일과 기념일에 공통으로 사용하는 커플 정보는 한 번만 조회
+        CoupleInfoResponse coupleInfo = findCoupleInfo(userId);
+        ScheduleCalendarResponse response = assembleMonth(year, month,
+                getMeetingDateInfos(coupleId, year, month), coupleInfo, userId);
+        if (coupleInfo != null) {
+            calendarCache.put(coupleId, year, month, generation, response);
+        }
+        return response;
+    }
+
+    /**
+     * 기간 달력 조회 (from ~ to 월, 양 끝 포함)
+     * 캐시에 없는 월의 미팅은 starttime 범위 쿼리 한 번으로 조회하고, 커플 정보도 한 번만 조회합니다.
+     * 각 월은 조립되는 즉시 monthConsumer로 전달됩니다.
+     */
+    @Transactional(readOnly = true)
+    public void streamCalendarRange(UUID coupleId, YearMonth from, YearMonth to, String userId,
+                                    Consumer<ScheduleCalendarResponse> monthConsumer) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        Map<YearMonth, List<ScheduleCalendarResponse.DateInfo>> meetingsByMonth = null;
+        CoupleInfoResponse coupleInfo = null;
+        long generation = calendarCache.generation(coupleId);
+        for (YearMonth month : months) {
+            ScheduleCalendarResponse cached = calendarCache.get(coupleId, month.getYear(), month.getMonthValue());
+            if (cached != null) {
+                monthConsumer.accept(cached);
+                continue;
+            }
+
+            // 첫 캐시 미스에서 남은 기간 전체를 한 번에 조회
+            if (meetingsByMonth == null) {
+                meetingsByMonth = getMeetingDateInfosByMonth(coupleId, month, to);
+                coupleInfo = findCoupleInfo(userId);
+            }
+            ScheduleCalendarResponse response = assembleMonth(month.getYear(), month.getMonthValue(),
+                    meetingsByMonth.getOrDefault(month, List.of()), coupleInfo, userId);
+            if (coupleInfo != null) {
+                calendarCache.put(coupleId, month.getYear(), month.getMonthValue(), generation, response);
+            }
+            monthConsumer.accept(response);
+        }
+    }
+
+    private ScheduleCalendarResponse assembleMonth(int year, int month,
+                                                   List<ScheduleCalendarResponse.DateInfo> meetingDateInfos,
+                                                   CoupleInfoResponse coupleInfo, String userId) {
         List<ScheduleCalendarResponse.DateInfo> dateInfos = new ArrayList<>();
 
         // 1. 미팅
-        dateInfos.addAll(getMeetingDateInfos(coupleId, year, month));
+        dateInfos.addAll(meetingDateInfos);
 
-        // 2. 커플 멤버 생일
-        dateInfos.addAll(getBirthdayDateInfos(userId, year, month));
+        if (coupleInfo != null) {
+            // 2. 커플 멤버 생일
+            dateInfos.addAll(getBirthdayDateInfos(coupleInfo, month));
 
-        // 3. 기념일 (역산 방식)
-        dateInfos.addAll(getDdayAnniversaryInfos(userId, year, month));
+            // 3. 기념일 (역산 방식)
+            dateInfos.addAll(getDdayAnniversaryInfos(coupleInfo, userId, year, month));
+        }
 
         // 날짜순 정렬
         dateInfos = dateInfos.stream()
@@ -115,33 +180,59 @@ public class ScheduleService {
         return new ScheduleCalendarResponse(year, month, dateInfos);
     }
 
+    private CoupleInfoResponse findCoupleInfo(String userId) {
+        try {
+            CoupleInfoResponse coupleInfo = userProfileService.getCoupleInfoByUserId(userId);
+            log.info("커플 정보 조회 결과: coupleInfo={}", coupleInfo);
+            return coupleInfo;
+        } catch (RuntimeException e) {
+            log.warn("커플 정보 조회 실패: userId={}, error={}", userId, e.getMessage());
+        } catch (Exception e) {
+            log.warn("커플 정보 조회 오류: userId={}", userId, e);
+        }
+        return null;
+    }
+
     private List<ScheduleCalendarResponse.DateInfo> getMeetingDateInfos(UUID coupleId, int year, int month) {
         List<ScheduleCalendarResponse.DateInfo> result = new ArrayList<>();
         List<Meeting> meetings = meetingRepository.findByCoupleIdAndYearAndMonthOrderByStartTimeAsc(coupleId, year, month);
         for (Meeting meeting : meetings) {
             if (meeting.getDay() != null) {
-                result.add(new ScheduleCalendarResponse.DateInfo(
-                        meeting.getDay(),
-                        "meeting",
-                        meeting.getName(),
-                        meeting.getId().toString()
-                ));
+                result.add(toDateInfo(meeting));
             }
         }
         return result;
     }
 
-    private List<ScheduleCalendarResponse.DateInfo> getBirthdayDateInfos(String userId, int year, int month) {
+    private Map<YearMonth, List<ScheduleCalendarResponse.DateInfo>> getMeetingDateInfosByMonth(UUID coupleId, YearMonth from, YearMonth to) {
+        Map<YearMonth, List<ScheduleCalendarResponse.DateInfo>> result = new HashMap<>();
+        List<Meeting> meetings = meetingRepository.findByCoupleIdAndStartTimeRange(coupleId,
+                from.atDay(1).atStartOfDay(), to.plusMonths(1).atDay(1).atStartOfDay());
+        for (Meeting meeting : meetings) {
+            if (meeting.getDay() != null) {
+                result.computeIfAbsent(YearMonth.from(meeting.getStartTime()), key -> new ArrayList<>())
+                        .add(toDateInfo(meeting));
+            }
+        }
+        return result;
+    }
+
+    private ScheduleCalendarResponse.DateInfo toDateInfo(Meeting meeting) {
+        return new ScheduleCalendarResponse.DateInfo(
+                meeting.getDay(),
+                "meeting",
+                meeting.getName(),
+                meeting.getId().toString()
+        );
+    }
+
+    private List<ScheduleCalendarResponse.DateInfo> getBirthdayDateInfos(CoupleInfoResponse coupleInfo, int month) {
         List<ScheduleCalendarResponse.DateInfo> result = new ArrayList<>();
         
         try {
-            log.info("생일 정보 조회 시작: userId={}, year={}, month={}", userId, year, month);
-            
-            // userId로 커플 정보 조회
-            CoupleInfoResponse coupleInfo = userProfileService.getCoupleInfoByUserId(userId);
-            log.info("커플 정보 조회 결과: coupleInfo={}", coupleInfo);
+            log.info("생일 정보 조회 시작: coupleId={}, month={}", coupleInfo.getCoupleId(), month);
             
-            if (coupleInfo != null && coupleInfo.getCoupleId() != null && coupleInfo.getUser1() != null && coupleInfo.getUser2() != null) {
+            if (coupleInfo.getCoupleId() != null && coupleInfo.getUser1() != null && coupleInfo.getUser2() != null) {
                 log.info("user1 생일: {}, user2 생일: {}", 
                         coupleInfo.getUser1().getBirth(), coupleInfo.getUser2().getBirth());
                 log.info("user1 이름: {}, user2 이름: {}", 
@@ -156,24 +247,19 @@ public class ScheduleService {
             
             log.info("생일 정보 조회 완료: {}개 생일 발견", result.size());
             
-        } catch (RuntimeException e) {
-            log.warn("커플 정보 조회 실패: userId={}, error={}", userId, e.getMessage());
         } catch (Exception e) {
-            log.warn("커플 정보 조회 오류: userId={}", userId, e);
+            log.warn("생일 정보 처리 오류: coupleId={}", coupleInfo.getCoupleId(), e);
         }
         return result;
     }
 
-    private List<ScheduleCalendarResponse.DateInfo> getDdayAnniversaryInfos(String userId, int year, int month) {
+    private List<ScheduleCalendarResponse.DateInfo> getDdayAnniversaryInfos(CoupleInfoResponse coupleInfo, String userId, int year, int month) {
         List<ScheduleCalendarResponse.DateInfo> result = new ArrayList<>();
         
         try {
-            // 1. 커플 시작일 조회
-            CoupleInfoResponse coupleInfo = userProfileService.getCoupleInfoByUserId(userId);
-            
-            // 커플 정보가 null이거나 startDate가 null인 경우 처리
-            if (coupleInfo == null || coupleInfo.getStartDate() == null) {
-                log.warn("커플 정보가 null이거나 시작일이 없음: userId={}", userId);
+            // 1. 커플 시작일 확인
+            if (coupleInfo.getStartDate() == null) {
+                log.warn("커플 시작일이 없음: userId={}", userId);
                 return result;
             }
             
@@ -1,5 +1,8 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.resilience.ResilienceException;
+import com.couple.common.resilience.ResilienceRegistry;
+import com.couple.schedule_meeting.config.ResilienceConfig;
 import com.couple.schedule_meeting.dto.SkTransitDetailedRequestDto;
 import com.couple.schedule_meeting.dto.SkTransitDetailedResponseDto;
 import com.couple.schedule_meeting.dto.SkPedestrianResponseDto;
@@ -25,8 +28,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransitDetailedService {
 
-    private final WebClient webClient;
+    private final WebClient skWebClient;
     private final PedestrianService pedestrianService;
+    private final ResilienceRegistry resilienceRegistry;
     
     @Value("${sk.api.url}")
     private String skApiUrl;
@@ -34,10 +38,26 @@ public class TransitDetailedService {
     @Value("${sk.api.app-key}")
     private String skAppKey;
 
+    // 직선 거리가 임계값 이하인 구간은 SK API 없이 보행 구간을 추정
+    @Value("${route.walk-estimate.enabled:true}")
+    private boolean walkEstimateEnabled;
+
+    @Value("${route.walk-estimate.threshold-meters:700}")
+    private double walkEstimateThresholdMeters;
+
+    // 직선 거리 대비 실제 보행 거리 비율
+    @Value("${route.walk-estimate.detour-factor:1.3}")
+    private double walkDetourFactor;
+
+    // 보행 속도 (m/s, 약 4km/h)
+    @Value("${route.walk-estimate.speed-mps:1.1}")
+    private double walkSpeedMetersPerSecond;
+
     /**
      * SK 교통 API를 통해 상세 경로를 조회합니다.
      * 모든 정거장 정보를 포함합니다.
      * 대중교통 API 응답이 없을 경우 보행 경로 API를 호출합니다.
+     * 직선 거리가 가까운 구간은 외부 API를 호출하지 않고 보행 구간을 추정합니다.
      * 
      * @param startX 출발지 경도
      * @param startY 출발지 위도
@@ -46,6 +66,11 @@ public class TransitDetailedService {
      * @return 상세 경로 정보 (모든 정거장 포함)
      */
     public SkTransitDetailedResponseDto getDetailedTransitRoute(String startX, String startY, String endX, String endY) {
+        SkTransitDetailedResponseDto estimated = estimateShortWalk(startX, startY, endX, endY);
+        if (estimated != null) {
+            return estimated;
+        }
+        
         try {
             // 요청 DTO 생성
             SkTransitDetailedRequestDto requestDto = SkTransitDetailedRequestDto.builder()
@@ -64,16 +89,18 @@ public class TransitDetailedService {
                     String.format("(%s, %s)", startX, startY), 
                     String.format("(%s, %s)", endX, endY));
 
-            // WebClient를 사용하여 SK 교통 API에 요청 전송 (원본 JSON 로그 출력)
-            String rawJson = webClient.post()
-                    .uri(skApiUrl)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header("appKey", skAppKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestDto)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            // WebClient를 사용하여 SK 교통 API에 요청 전송 (시간 제한/동시 호출 제한/회로 차단 적용)
+            String rawJson = resilienceRegistry.get(ResilienceConfig.SK_TRANSIT).executeIdempotent(
+                    () -> skWebClient.post()
+                            .uri(skApiUrl)
+                            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                            .header("appKey", skAppKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestDto)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .toFuture(),
+                    null);
 
             // 이후 필요하다면 Jackson ObjectMapper로 DTO로 변환
             com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -111,6 +138,9 @@ public class TransitDetailedService {
             log.error("SK 교통 API HTTP 오류: {} - {}", e.getStatusCode(), e.getMessage());
             log.warn("보행 경로 API를 시도합니다.");
             return getPedestrianRouteAsDetailedTransit(startX, startY, endX, endY);
+        } catch (ResilienceException e) {
+            log.warn("SK 교통 API 호출 중단: {}. 보행 경로 API를 시도합니다.", e.getMessage());
+            return getPedestrianRouteAsDetailedTransit(startX, startY, endX, endY);
         } catch (Exception e) {
             log.error("SK 교통 API 상세 경로 서비스 오류: {}", e.getMessage(), e);
             log.warn("보행 경로 API를 시도합니다.");
@@ -149,19 +179,6 @@ public class TransitDetailedService {
             
             log.info("보행 경로 정보 - 총 거리: {}m, 총 시간: {}초", totalDistance, totalTime);
             
-            // Location 객체 생성
-            SkTransitDetailedResponseDto.Location startLocation = SkTransitDetailedResponseDto.Location.builder()
-                    .name("출발지")
-                    .lon(startX)
-                    .lat(startY)
-                    .build();
-            
-            SkTransitDetailedResponseDto.Location endLocation = SkTransitDetailedResponseDto.Location.builder()
-                    .name("도착지")
-                    .lon(endX)
-                    .lat(endY)
-                    .build();
-            
             // Steps 생성 - 실제 보행 경로의 좌표들을 추출
             List<SkTransitDetailedResponseDto.Step> steps = new ArrayList<>();
             StringBuilder linestringBuilder = new StringBuilder();
@@ -212,51 +229,7 @@ public class TransitDetailedService {
                         .build());
             }
             
-            // DetailedLeg 객체 생성
-            SkTransitDetailedResponseDto.DetailedLeg leg = SkTransitDetailedResponseDto.DetailedLeg.builder()
-                    .mode("WALK")
-                    .sectionTime(totalTime)
-                    .distance(totalDistance)
-                    .start(startLocation)
-                    .end(endLocation)
-                    .steps(steps)
-                    .build();
-            
-            // DetailedItinerary 객체 생성
-            SkTransitDetailedResponseDto.DetailedItinerary itinerary = SkTransitDetailedResponseDto.DetailedItinerary.builder()
-                    .totalTime(totalTime)
-                    .totalDistance(totalDistance)
-                    .totalWalkTime(totalTime)
-                    .transferCount(0)
-                    .totalWalkDistance(totalDistance)
-                    .pathType(1) // 보행 경로
-                    .legs(List.of(leg))
-                    .build();
-            
-            // Plan 객체 생성
-            SkTransitDetailedResponseDto.Plan plan = SkTransitDetailedResponseDto.Plan.builder()
-                    .itineraries(List.of(itinerary))
-                    .build();
-            
-            // RequestParameters 객체 생성
-            SkTransitDetailedResponseDto.RequestParameters requestParameters = SkTransitDetailedResponseDto.RequestParameters.builder()
-                    .startX(startX)
-                    .startY(startY)
-                    .endX(endX)
-                    .endY(endY)
-                    .locale("ko")
-                    .build();
-            
-            // MetaData 객체 생성
-            SkTransitDetailedResponseDto.MetaData metaData = SkTransitDetailedResponseDto.MetaData.builder()
-                    .plan(plan)
-                    .requestParameters(requestParameters)
-                    .build();
-            
-            // 최종 응답 생성
-            SkTransitDetailedResponseDto response = SkTransitDetailedResponseDto.builder()
-                    .metaData(metaData)
-                    .build();
+            SkTransitDetailedResponseDto response = buildWalkOnlyResponse(startX, startY, endX, endY, totalDistance, totalTime, steps);
             
             log.info("보행 경로를 상세 교통 경로 형식으로 변환 완료: {}m, {}초", totalDistance, totalTime);
             return response;
@@ -267,6 +240,108 @@ public class TransitDetailedService {
         }
     }
 
+    /**
+     * 직선 거리가 임계값 이하이면 보행 구간을 추정합니다. (SK 교통/보행 API 호출 생략)
+     * 거리는 직선 거리에 우회 비율을 곱하고, 시간은 보행 속도로 계산합니다.
+     * 
+     * @return 추정한 보행 경로, 추정 대상이 아니면 null
+     */
+    private SkTransitDetailedResponseDto estimateShortWalk(String startX, String startY, String endX, String endY) {
+        if (!walkEstimateEnabled) {
+            return null;
+        }
+        
+        double straightDistance;
+        try {
+            straightDistance = pedestrianService.calculateDistance(
+                    Double.parseDouble(startY), Double.parseDouble(startX),
+                    Double.parseDouble(endY), Double.parseDouble(endX));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (!pedestrianService.isShortDistance(straightDistance, walkEstimateThresholdMeters)) {
+            return null;
+        }
+        
+        int totalDistance = (int) Math.round(straightDistance * walkDetourFactor);
+        int totalTime = (int) Math.round(totalDistance / walkSpeedMetersPerSecond);
+        log.info("근거리 구간 보행 추정: 직선 {}m -> {}m, {}초", Math.round(straightDistance), totalDistance, totalTime);
+        
+        List<SkTransitDetailedResponseDto.Step> steps = List.of(SkTransitDetailedResponseDto.Step.builder()
+                .streetName("보행자도로")
+                .distance(totalDistance)
+                .description("보행자도로를 따라 " + totalDistance + "m 이동")
+                .linestring(String.format("%s,%s %s,%s", startX, startY, endX, endY))
+                .build());
+        return buildWalkOnlyResponse(startX, startY, endX, endY, totalDistance, totalTime, steps);
+    }
+
+    /**
+     * 보행 구간 하나로 이루어진 상세 교통 경로 형식의 응답을 생성합니다.
+     */
+    private SkTransitDetailedResponseDto buildWalkOnlyResponse(String startX, String startY, String endX, String endY,
+                                                               Integer totalDistance, Integer totalTime,
+                                                               List<SkTransitDetailedResponseDto.Step> steps) {
+        // Location 객체 생성
+        SkTransitDetailedResponseDto.Location startLocation = SkTransitDetailedResponseDto.Location.builder()
+                .name("출발지")
+                .lon(startX)
+                .lat(startY)
+                .build();
+        
+        SkTransitDetailedResponseDto.Location endLocation = SkTransitDetailedResponseDto.Location.builder()
+                .name("도착지")
+                .lon(endX)
+                .lat(endY)
+                .build();
+        
+        // DetailedLeg 객체 생성
+        SkTransitDetailedResponseDto.DetailedLeg leg = SkTransitDetailedResponseDto.DetailedLeg.builder()
+                .mode("WALK")
+                .sectionTime(totalTime)
+                .distance(totalDistance)
+                .start(startLocation)
+                .end(endLocation)
+                .steps(steps)
+                .build();
+        
+        // DetailedItinerary 객체 생성
+        SkTransitDetailedResponseDto.DetailedItinerary itinerary = SkTransitDetailedResponseDto.DetailedItinerary.builder()
+                .totalTime(totalTime)
+                .totalDistance(totalDistance)
+                .totalWalkTime(totalTime)
+                .transferCount(0)
+                .totalWalkDistance(totalDistance)
+                .pathType(1) // 보행 경로
+                .legs(List.of(leg))
+                .build();
+        
+        // Plan 객체 생성
+        SkTransitDetailedResponseDto.Plan plan = SkTransitDetailedResponseDto.Plan.builder()
+                .itineraries(List.of(itinerary))
+                .build();
+        
+        // RequestParameters 객체 생성
+        SkTransitDetailedResponseDto.RequestParameters requestParameters = SkTransitDetailedResponseDto.RequestParameters.builder()
+                .startX(startX)
+                .startY(startY)
+                .endX(endX)
+                .endY(endY)
+                .locale("ko")
+                .build();
+        
+        // MetaData 객체 생성
+        SkTransitDetailedResponseDto.MetaData metaData = SkTransitDetailedResponseDto.MetaData.builder()
+                .plan(plan)
+                .requestParameters(requestParameters)
+                .build();
+        
+        // 최종 응답 생성
+        return SkTransitDetailedResponseDto.builder()
+                .metaData(metaData)
+                .build();
+    }
+
     /**
      * 응답에서 최단 시간 상세 경로만 추출하여 새로운 응답을 생성합니다.
      * 
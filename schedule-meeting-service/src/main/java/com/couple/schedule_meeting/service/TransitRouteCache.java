@@ -0,0 +1,107 @@
+package com.couple.schedule_meeting.service;
+
+import com.couple.schedule_meeting.dto.SkTransitDetailedResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구간(leg) 단위 상세 경로 캐시
+ * - 출발/도착 좌표를 반올림한 값과 시간대 버킷을 키로 사용해, 같은 가게 사이의 인기 구간은 메모리에서 응답합니다.
+ * - 동일 구간에 대한 동시 조회는 한 번의 SK API 호출로 합쳐지며, 조회 실패(null)는 캐시하지 않습니다.
+ * - SK API 호출은 크기가 제한된 전용 스레드 풀에서 실행되어 구간을 병렬로 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TransitRouteCache {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final TransitDetailedService transitDetailedService;
+    private final Cache<LegKey, SkTransitDetailedResponseDto> cache;
+    private final ExecutorService executor;
+    private final double coordinateScale;
+    private final int timeBucketMinutes;
+
+    public TransitRouteCache(TransitDetailedService transitDetailedService,
+                             MeterRegistry meterRegistry,
+                             @Value("${route.leg-cache.max-size:5000}") long maxSize,
+                             @Value("${route.leg-cache.ttl-minutes:30}") long ttlMinutes,
+                             @Value("${route.leg-cache.coordinate-precision:4}") int coordinatePrecision,
+                             @Value("${route.leg-cache.time-bucket-minutes:30}") int timeBucketMinutes,
+                             @Value("${route.leg.parallelism:4}") int parallelism) {
+        this.transitDetailedService = transitDetailedService;
+        this.coordinateScale = Math.pow(10, coordinatePrecision);
+        this.timeBucketMinutes = timeBucketMinutes;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "route.leg");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "route-leg-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 구간 상세 경로 조회 (캐시 미스 시 SK API 호출)
+     *
+     * @return 상세 경로, 대중교통과 보행 경로 모두 실패하면 null
+     */
+    public SkTransitDetailedResponseDto getRoute(String startX, String startY, String endX, String endY) {
+        return cache.get(toKey(startX, startY, endX, endY),
+                key -> {
+                    log.debug("구간 경로 캐시 미스, SK API 호출: {}", key);
+                    return transitDetailedService.getDetailedTransitRoute(startX, startY, endX, endY);
+                });
+    }
+
+    /**
+     * 구간 상세 경로를 전용 스레드 풀에서 비동기 조회
+     */
+    public CompletableFuture<SkTransitDetailedResponseDto> getRouteAsync(String startX, String startY,
+                                                                         String endX, String endY) {
+        return CompletableFuture.supplyAsync(() -> getRoute(startX, startY, endX, endY), executor);
+    }
+
+    private LegKey toKey(String startX, String startY, String endX, String endY) {
+        int minuteOfDay = LocalTime.now(KOREA_ZONE).toSecondOfDay() / 60;
+        return new LegKey(round(startX), round(startY), round(endX), round(endY),
+                minuteOfDay / timeBucketMinutes);
+    }
+
+    private long round(String coordinate) {
+        return Math.round(Double.parseDouble(coordinate) * coordinateScale);
+    }
+
+    /**
+     * 반올림한 좌표(coordinateScale 배)와 시간대 버킷으로 구성된 캐시 키
+     */
+    private record LegKey(long startX, long startY, long endX, long endY, int timeBucket) {
+    }
+}
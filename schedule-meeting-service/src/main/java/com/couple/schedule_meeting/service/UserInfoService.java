@@ -19,7 +19,7 @@ import java.util.Map;
 public class UserInfoService {
 
     private final UserProfileService userProfileService;
-    private final CoupleVectorService coupleVectorService;
+    private final CouplePreferenceSnapshotStore couplePreferenceSnapshotStore;
 
     /**
      * 사용자 ID로 해당 사용자가 속한 커플의 기본 정보와 취향 벡터를 모두 조회합니다.
@@ -31,16 +31,10 @@ public class UserInfoService {
         log.info("사용자 ID로 커플 정보와 취향 조회 시작: userId={}", userId);
 
         try {
-            // 새로운 커플 벡터 API를 사용하여 커플 정보와 취향벡터를 한 번에 조회
-            CoupleVectorService.CoupleVectorsResponse coupleVectors = coupleVectorService.getCoupleVectors(userId);
-            
-            CoupleInfo coupleInfo = CoupleInfo.builder()
-                    .coupleId(coupleVectors.getCoupleId().toString())
-                    .user1(convertToUserInfo(coupleVectors.getUser1()))
-                    .user2(convertToUserInfo(coupleVectors.getUser2()))
-                    .build();
+            // 로컬 커플 취향 스냅샷에서 조회 (없으면 커플 벡터 API로 채움)
+            CoupleInfo coupleInfo = couplePreferenceSnapshotStore.getCoupleInfo(userId);
 
-            log.info("커플 정보와 취향 조회 완료: userId={}, coupleId={}", userId, coupleVectors.getCoupleId());
+            log.info("커플 정보와 취향 조회 완료: userId={}, coupleId={}", userId, coupleInfo.getCoupleId());
             return coupleInfo;
             
         } catch (Exception e) {
@@ -60,18 +54,6 @@ public class UserInfoService {
         }
     }
 
-    /**
-     * CoupleVectorService의 응답을 UserInfo로 변환합니다.
-     */
-    private UserInfo convertToUserInfo(CoupleVectorService.CoupleVectorsResponse.CoupleUserVectorResponse userVector) {
-        return UserInfo.builder()
-                .id(userVector.getUserId().toString())
-                .gender(userVector.getGender())
-                .birth("") // birth 정보는 API에서 제공하지 않으므로 빈 문자열
-                .preferenceVector(userVector.getPreferences())
-                .build();
-    }
-
     /**
      * 사용자의 기본 정보와 취향 벡터를 모두 조회합니다. (fallback용)
      *
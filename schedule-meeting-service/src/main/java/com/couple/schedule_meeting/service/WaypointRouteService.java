@@ -9,6 +9,10 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +24,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WaypointRouteService {
 
-    private final TransitDetailedService transitDetailedService;
+    private final TransitRouteCache transitRouteCache;
 
     /**
      * 경유지를 포함한 상세 경로를 조회합니다.
@@ -31,127 +35,206 @@ public class WaypointRouteService {
      */
     public WaypointRouteResponse getWaypointRoute(WaypointRouteRequest request) {
         try {
-            List<WaypointRouteRequest.LocationCoordinate> waypoints = request.getWaypoints();
+            return getWaypointRouteAsync(request, null).join();
+        } catch (Exception e) {
+            log.error("경유지 상세 경로 조회 중 오류 발생: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 경유지를 포함한 상세 경로를 비동기로 조회합니다.
+     * 구간 조회는 병렬로 시작하고(스레드 풀 크기로 병렬도 제한), 전체 경로는 경유지 순서대로 조립합니다.
+     * 
+     * @param request 경유지 요청 정보
+     * @param segmentListener 구간이 조회될 때마다 호출 (조회 완료 순서, null 가능)
+     * @return 경유지 상세 경로 정보, 구간 조회에 실패하면 null로 완료
+     */
+    public CompletableFuture<WaypointRouteResponse> getWaypointRouteAsync(
+            WaypointRouteRequest request, Consumer<WaypointRouteResponse.RouteSegment> segmentListener) {
+        List<WaypointRouteRequest.LocationCoordinate> waypoints = request.getWaypoints();
+        
+        if (waypoints == null || waypoints.size() < 2) {
+            log.warn("경유지가 2개 미만입니다. 최소 2개의 경유지가 필요합니다.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.info("경유지 상세 경로 조회 시작: {}개 경유지", waypoints.size());
+        String routeType = request.getRouteType() != null ? request.getRouteType() : "fastest";
+
+        // 각 구간별 상세 경로 조회를 동시에 시작
+        // 앞 구간의 실패 처리(cancelRemaining)가 목록 생성 중에 실행될 수 있으므로 CopyOnWriteArrayList 사용
+        List<CompletableFuture<SkTransitDetailedResponseDto>> legFutures = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<WaypointRouteResponse.RouteSegment>> segmentFutures = new ArrayList<>();
+        for (int i = 0; i < waypoints.size() - 1; i++) {
+            WaypointRouteRequest.LocationCoordinate from = waypoints.get(i);
+            WaypointRouteRequest.LocationCoordinate to = waypoints.get(i + 1);
             
-            if (waypoints == null || waypoints.size() < 2) {
-                log.warn("경유지가 2개 미만입니다. 최소 2개의 경유지가 필요합니다.");
-                return null;
+            // null 좌표 체크
+            if (from.getLon() == null || from.getLat() == null || to.getLon() == null || to.getLat() == null) {
+                log.warn("구간 {} 좌표가 null입니다: {} -> {}", i + 1, from.getName(), to.getName());
+                segmentFutures.add(null); // 이 구간은 건너뛰고 다음 구간으로
+                continue;
             }
-
-            log.info("경유지 상세 경로 조회 시작: {}개 경유지", waypoints.size());
             
-            List<WaypointRouteResponse.RouteSegment> segments = new ArrayList<>();
-            int totalTime = 0;
-            int totalDistance = 0;
-            int totalFare = 0;
-            int totalWalkTime = 0;
-            int totalTransferCount = 0;
-            List<String> waypointNames = new ArrayList<>();
-
-            // 각 구간별로 상세 경로 조회
-            for (int i = 0; i < waypoints.size() - 1; i++) {
-                WaypointRouteRequest.LocationCoordinate from = waypoints.get(i);
-                WaypointRouteRequest.LocationCoordinate to = waypoints.get(i + 1);
-                
-                // null 좌표 체크
-                if (from.getLon() == null || from.getLat() == null || to.getLon() == null || to.getLat() == null) {
-                    log.warn("구간 {} 좌표가 null입니다: {} -> {}", i + 1, from.getName(), to.getName());
-                    continue; // 이 구간은 건너뛰고 다음 구간으로
+            log.info("구간 {} 상세 경로 조회: {} -> {}", i + 1, from.getName(), to.getName());
+            int sequence = i + 1;
+            CompletableFuture<SkTransitDetailedResponseDto> legFuture =
+                    transitRouteCache.getRouteAsync(from.getLon(), from.getLat(), to.getLon(), to.getLat());
+            legFutures.add(legFuture);
+            segmentFutures.add(legFuture.thenApply(response -> {
+                WaypointRouteResponse.RouteSegment segment = toSegment(sequence, from, to, response, routeType);
+                if (segment == null) {
+                    // 한 구간이라도 실패하면 전체 경로가 실패하므로 아직 시작하지 않은 구간 조회는 취소
+                    cancelRemaining(legFutures);
+                } else if (segmentListener != null) {
+                    notifySegment(segmentListener, segment);
                 }
-                
-                log.info("구간 {} 상세 경로 조회: {} -> {}", i + 1, from.getName(), to.getName());
-                
-                // 상세 경로 조회
-                SkTransitDetailedResponseDto detailedRouteResponse = transitDetailedService.getDetailedTransitRoute(
-                    from.getLon(), from.getLat(), to.getLon(), to.getLat()
-                );
-                
-                if (detailedRouteResponse != null && detailedRouteResponse.getMetaData() != null && 
-                    detailedRouteResponse.getMetaData().getPlan() != null && 
-                    detailedRouteResponse.getMetaData().getPlan().getItineraries() != null &&
-                    !detailedRouteResponse.getMetaData().getPlan().getItineraries().isEmpty()) {
-                    
-                    SkTransitDetailedResponseDto.DetailedItinerary itinerary = 
-                        detailedRouteResponse.getMetaData().getPlan().getItineraries().get(0);
-                    
-                    // 구간 정보 생성 (상세 경로 포함)
-                    WaypointRouteResponse.RouteSegment segment = WaypointRouteResponse.RouteSegment.builder()
-                            .sequence(i + 1)
-                            .fromName(from.getName())
-                            .toName(to.getName())
-                            .fromLon(from.getLon())
-                            .fromLat(from.getLat())
-                            .toLon(to.getLon())
-                            .toLat(to.getLat())
-                            .totalTime(itinerary.getTotalTime())
-                            .totalDistance(itinerary.getTotalDistance())
-                            .totalFare(itinerary.getFare() != null && itinerary.getFare().getRegular() != null ? 
-                                      itinerary.getFare().getRegular().getTotalFare() : 0)
-                            .totalWalkTime(itinerary.getTotalWalkTime())
-                            .transferCount(itinerary.getTransferCount())
-                            .routeType(request.getRouteType() != null ? request.getRouteType() : "fastest")
-                            .build();
-                    
-                    // legs 필드를 별도로 설정 (모드별 DTO 사용)
-                    segment.setLegs(convertDetailedLegs(itinerary.getLegs()));
-                    
-                    segments.add(segment);
-                    
-                    // 전체 통계 누적
-                    totalTime += itinerary.getTotalTime() != null ? itinerary.getTotalTime() : 0;
-                    totalDistance += itinerary.getTotalDistance() != null ? itinerary.getTotalDistance() : 0;
-                    totalFare += itinerary.getFare() != null && itinerary.getFare().getRegular() != null ? 
-                                itinerary.getFare().getRegular().getTotalFare() : 0;
-                    totalWalkTime += itinerary.getTotalWalkTime() != null ? itinerary.getTotalWalkTime() : 0;
-                    totalTransferCount += itinerary.getTransferCount() != null ? itinerary.getTransferCount() : 0;
-                    
-                    if (i == 0) {
-                        waypointNames.add(from.getName());
+                return segment;
+            }));
+        }
+
+        return CompletableFuture.allOf(segmentFutures.stream()
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("경유지 상세 경로 조회 실패: {}", error.getMessage());
                     }
-                    waypointNames.add(to.getName());
-                    
-                    log.info("구간 {} 상세 경로 완료: {}분, {}m, {}원", i + 1, 
-                            itinerary.getTotalTime() != null ? itinerary.getTotalTime() / 60 : 0,
-                            itinerary.getTotalDistance() != null ? itinerary.getTotalDistance() : 0,
-                            itinerary.getFare() != null && itinerary.getFare().getRegular() != null ? 
-                            itinerary.getFare().getRegular().getTotalFare() : 0);
-                    
-                } else {
-                    log.warn("구간 {} 상세 경로 조회 실패: {} -> {}", i + 1, from.getName(), to.getName());
-                    return null;
-                }
+                    return assembleRoute(segmentFutures);
+                });
+    }
+
+    /**
+     * 구간 조회 결과를 경유지 순서대로 모아 전체 경로를 생성합니다.
+     */
+    private WaypointRouteResponse assembleRoute(List<CompletableFuture<WaypointRouteResponse.RouteSegment>> segmentFutures) {
+        List<WaypointRouteResponse.RouteSegment> segments = new ArrayList<>();
+        int totalTime = 0;
+        int totalDistance = 0;
+        int totalFare = 0;
+        int totalWalkTime = 0;
+        int totalTransferCount = 0;
+        List<String> waypointNames = new ArrayList<>();
+
+        for (CompletableFuture<WaypointRouteResponse.RouteSegment> segmentFuture : segmentFutures) {
+            if (segmentFuture == null) {
+                continue;
             }
+            WaypointRouteResponse.RouteSegment segment = segmentFuture.isCompletedExceptionally()
+                    ? null
+                    : segmentFuture.join();
+            if (segment == null) {
+                return null;
+            }
+            segments.add(segment);
             
-            // 전체 요약 정보 생성
-            WaypointRouteResponse.RouteSummary summary = WaypointRouteResponse.RouteSummary.builder()
-                    .totalTime(totalTime)
-                    .totalDistance(totalDistance)
-                    .totalFare(totalFare)
-                    .totalWalkTime(totalWalkTime)
-                    .totalTransferCount(totalTransferCount)
-                    .segmentCount(segments.size())
-                    .waypointNames(waypointNames)
-                    .build();
-            
-            log.info("경유지 상세 경로 조회 완료: 총 {}분, {}m, {}원, {}회 환승", 
-                    totalTime / 60, totalDistance, totalFare, totalTransferCount);
+            // 전체 통계 누적
+            totalTime += segment.getTotalTime() != null ? segment.getTotalTime() : 0;
+            totalDistance += segment.getTotalDistance() != null ? segment.getTotalDistance() : 0;
+            totalFare += segment.getTotalFare() != null ? segment.getTotalFare() : 0;
+            totalWalkTime += segment.getTotalWalkTime() != null ? segment.getTotalWalkTime() : 0;
+            totalTransferCount += segment.getTransferCount() != null ? segment.getTransferCount() : 0;
             
-            return WaypointRouteResponse.builder()
-                    .segments(segments)
-                    .summary(summary)
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("경유지 상세 경로 조회 중 오류 발생: {}", e.getMessage(), e);
+            if (segment.getSequence() == 1) {
+                waypointNames.add(segment.getFromName());
+            }
+            waypointNames.add(segment.getToName());
+        }
+        
+        // 전체 요약 정보 생성
+        WaypointRouteResponse.RouteSummary summary = WaypointRouteResponse.RouteSummary.builder()
+                .totalTime(totalTime)
+                .totalDistance(totalDistance)
+                .totalFare(totalFare)
+                .totalWalkTime(totalWalkTime)
+                .totalTransferCount(totalTransferCount)
+                .segmentCount(segments.size())
+                .waypointNames(waypointNames)
+                .build();
+        
+        log.info("경유지 상세 경로 조회 완료: 총 {}분, {}m, {}원, {}회 환승", 
+                totalTime / 60, totalDistance, totalFare, totalTransferCount);
+        
+        return WaypointRouteResponse.builder()
+                .segments(segments)
+                .summary(summary)
+                .build();
+    }
+
+    /**
+     * 구간 상세 경로 응답을 구간 정보로 변환합니다.
+     * 
+     * @return 구간 정보, 응답에 경로가 없으면 null
+     */
+    private WaypointRouteResponse.RouteSegment toSegment(int sequence,
+                                                         WaypointRouteRequest.LocationCoordinate from,
+                                                         WaypointRouteRequest.LocationCoordinate to,
+                                                         SkTransitDetailedResponseDto detailedRouteResponse,
+                                                         String routeType) {
+        if (detailedRouteResponse == null || detailedRouteResponse.getMetaData() == null || 
+            detailedRouteResponse.getMetaData().getPlan() == null || 
+            detailedRouteResponse.getMetaData().getPlan().getItineraries() == null ||
+            detailedRouteResponse.getMetaData().getPlan().getItineraries().isEmpty()) {
+            log.warn("구간 {} 상세 경로 조회 실패: {} -> {}", sequence, from.getName(), to.getName());
             return null;
         }
+        
+        SkTransitDetailedResponseDto.DetailedItinerary itinerary = 
+            detailedRouteResponse.getMetaData().getPlan().getItineraries().get(0);
+        int fare = itinerary.getFare() != null && itinerary.getFare().getRegular() != null ? 
+                   itinerary.getFare().getRegular().getTotalFare() : 0;
+        
+        // 구간 정보 생성 (상세 경로 포함)
+        WaypointRouteResponse.RouteSegment segment = WaypointRouteResponse.RouteSegment.builder()
+                .sequence(sequence)
+                .fromName(from.getName())
+                .toName(to.getName())
+                .fromLon(from.getLon())
+                .fromLat(from.getLat())
+                .toLon(to.getLon())
+                .toLat(to.getLat())
+                .totalTime(itinerary.getTotalTime())
+                .totalDistance(itinerary.getTotalDistance())
+                .totalFare(fare)
+                .totalWalkTime(itinerary.getTotalWalkTime())
+                .transferCount(itinerary.getTransferCount())
+                .routeType(routeType)
+                .build();
+        
+        // legs 필드를 별도로 설정 (모드별 DTO 사용)
+        segment.setLegs(convertDetailedLegs(itinerary.getLegs()));
+        
+        log.info("구간 {} 상세 경로 완료: {}분, {}m, {}원", sequence, 
+                itinerary.getTotalTime() != null ? itinerary.getTotalTime() / 60 : 0,
+                itinerary.getTotalDistance() != null ? itinerary.getTotalDistance() : 0,
+                fare);
+        return segment;
+    }
+
+    private void notifySegment(Consumer<WaypointRouteResponse.RouteSegment> segmentListener,
+                               WaypointRouteResponse.RouteSegment segment) {
+        try {
+            segmentListener.accept(segment);
+        } catch (Exception e) {
+            log.warn("구간 {} 전달 중 오류: {}", segment.getSequence(), e.getMessage());
+        }
+    }
+
+    /**
+     * 경로 조립을 중단할 때 아직 시작하지 않은 구간 조회를 취소합니다.
+     */
+    private void cancelRemaining(List<CompletableFuture<SkTransitDetailedResponseDto>> legFutures) {
+        legFutures.stream()
+                .filter(future -> !future.isDone())
+                .forEach(future -> future.cancel(false));
     }
 
     /**
      * 상세 경로 API 응답의 DetailedLeg를 경유지 응답 DTO의 Leg로 변환합니다.
      * 모드별로 다른 DTO 구조를 사용합니다.
      */
-    private List<Object> convertDetailedLegs(List<SkTransitDetailedResponseDto.DetailedLeg> originalLegs) {
+    List<Object> convertDetailedLegs(List<SkTransitDetailedResponseDto.DetailedLeg> originalLegs) {
         if (originalLegs == null) {
             return new ArrayList<>();
         }
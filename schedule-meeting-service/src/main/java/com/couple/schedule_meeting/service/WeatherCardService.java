@@ -1,24 +1,43 @@
 package com.couple.schedule_meeting.service;
 
+import com.couple.common.resilience.ResilienceRegistry;
+import com.couple.schedule_meeting.config.ResilienceConfig;
 import com.couple.schedule_meeting.util.GeoToGridConverter;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WeatherCardService {
@@ -30,74 +49,225 @@ public class WeatherCardService {
     // 기상청 발표시각 (매일 02, 05, 08, 11, 14, 17, 20, 23시)
     private static final int[] WEATHER_API_BASE_HOURS = {2, 5, 8, 11, 14, 17, 20, 23};
 
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BASE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+    // 발표시각의 예보를 사용하기 시작하는 시점 (발표시각 + 10시간, calculateBaseDateTime 참고)
+    private static final int WEATHER_API_AVAILABLE_AFTER_HOURS = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final ResilienceRegistry resilienceRegistry;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    // 연결을 재사용하는 비동기 HTTP 클라이언트 (HTTP/1.1 keep-alive 풀)
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
     @Value("${weather.api-key}")
     private String serviceKey;
 
+    @Value("${weather.cache.max-size:5000}")
+    private long cacheMaxSize;
+
+    @Value("${weather.cache.active-cell-ttl-hours:24}")
+    private long activeCellTtlHours;
+
+    @Value("${weather.api.timeout-seconds:10}")
+    private long apiTimeoutSeconds;
+
+    // (nx, ny, baseDate, baseTime) → 날씨 카드, 다음 발표시각 전환 시점에 만료
+    private AsyncCache<ForecastKey, List<WeatherCardResponse>> forecastCache;
+    // 최근 조회된 격자 (발표시각 전환 직후 미리 갱신할 대상)
+    private Cache<GridCell, Boolean> activeCells;
+
+    @PostConstruct
+    void initCache() {
+        forecastCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<ForecastKey, List<WeatherCardResponse>>() {
+                    @Override
+                    public long expireAfterCreate(ForecastKey key, List<WeatherCardResponse> value, long currentTime) {
+                        LocalDateTime koreaNow = LocalDateTime.now(KOREA_ZONE);
+                        return Math.max(0, Duration.between(koreaNow, nextBaseSwitch(koreaNow)).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ForecastKey key, List<WeatherCardResponse> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ForecastKey key, List<WeatherCardResponse> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        activeCells = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofHours(activeCellTtlHours))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, forecastCache.synchronous(), "weather.forecast");
+    }
+
     public List<WeatherCardResponse> getWeatherCards(float lat, float lon) throws Exception {
         GeoToGridConverter.Grid grid = GeoToGridConverter.convert(lat, lon);
-        int nx = grid.x;
-        int ny = grid.y;
-        System.out.println("[DEBUG] 변환된 nx, ny = " + nx + ", " + ny);
-        
+        GridCell cell = new GridCell(grid.x, grid.y);
+        log.debug("변환된 nx, ny = {}, {}", cell.nx(), cell.ny());
+
+        activeCells.put(cell, Boolean.TRUE);
+        return getForecast(cell, LocalDateTime.now(KOREA_ZONE)).join();
+    }
+
+    /**
+     * 발표시각 전환 직후 최근 조회된 격자의 예보를 미리 받아 둡니다.
+     * 기본값은 발표시각 전환 시점(12, 15, 18, 21시, 자정) 1분 후입니다.
+     */
+    @Scheduled(cron = "${weather.cache.prewarm-cron:0 1 0,12,15,18,21 * * *}", zone = "Asia/Seoul")
+    public void prewarmActiveCells() {
+        LocalDateTime koreaNow = LocalDateTime.now(KOREA_ZONE);
+        int refreshed = 0;
+        for (GridCell cell : activeCells.asMap().keySet()) {
+            try {
+                getForecast(cell, koreaNow).join();
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("날씨 예보 미리 갱신 실패: nx={}, ny={}, error={}", cell.nx(), cell.ny(), e.getMessage());
+            }
+        }
+        log.info("날씨 예보 미리 갱신 완료: {}개 격자", refreshed);
+    }
+
+    /**
+     * 격자의 현재 발표시각 예보 조회, 같은 키에 대한 동시 미스는 한 번의 기상청 호출로 합쳐집니다.
+     */
+    private CompletableFuture<List<WeatherCardResponse>> getForecast(GridCell cell, LocalDateTime koreaNow) {
         // 현재 시간에 맞는 가장 최신의 발표시각 계산
-        LocalDateTime koreaNow = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         LocalDateTime baseDateTime = calculateBaseDateTime(koreaNow);
-        String baseDate = baseDateTime.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String baseTime = baseDateTime.format(DateTimeFormatter.ofPattern("HHmm"));
-        
-        System.out.println("[DEBUG] 한국 시간 기준: " + koreaNow);
-        System.out.println("[DEBUG] API 호출 baseDate: " + baseDate);
-        System.out.println("[DEBUG] API 호출 baseTime: " + baseTime);
+        ForecastKey key = new ForecastKey(cell.nx(), cell.ny(),
+                baseDateTime.format(BASE_DATE_FORMATTER), baseDateTime.format(BASE_TIME_FORMATTER));
+        return forecastCache.get(key, (k, executor) -> fetchForecast(k, koreaNow.toLocalDate()));
+    }
 
+    private CompletableFuture<List<WeatherCardResponse>> fetchForecast(ForecastKey key, LocalDate koreaToday) {
+        log.debug("날씨 예보 캐시 미스, 기상청 API 호출: {}", key);
         String urlStr = String.format(
                 WEATHER_API_BASE_URL +
                         "?serviceKey=%s&numOfRows=%d&pageNo=%d&dataType=%s&base_date=%s&base_time=%s&nx=%d&ny=%d",
-                URLEncoder.encode(serviceKey, "UTF-8"),
+                URLEncoder.encode(serviceKey, StandardCharsets.UTF_8),
                 WEATHER_API_NUM_OF_ROWS,
                 WEATHER_API_PAGE_NO,
                 WEATHER_API_DATA_TYPE,
-                baseDate,
-                baseTime,
-                nx,
-                ny);
-
-        String json = fetchJson(urlStr);
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(json);
-        JsonNode items = root.path("response").path("body").path("items").path("item");
-
-        Map<String, DailySimpleSummary> summaries = new HashMap<>();
-        for (JsonNode item : items) {
-            String date = item.get("fcstDate").asText();
-            String category = item.get("category").asText();
-            String value = item.get("fcstValue").asText();
-
-            LocalDate itemDate = LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
-            LocalDate koreaToday = LocalDate.now(ZoneId.of("Asia/Seoul"));
-            
-            if (itemDate.isAfter(koreaToday.plusDays(4)) || itemDate.isBefore(koreaToday)) {
-                System.out.println("[DEBUG] 날짜 필터링 제외: " + itemDate);
-                continue;
-            }
+                key.baseDate(),
+                key.baseTime(),
+                key.nx(),
+                key.ny());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(urlStr))
+                .timeout(Duration.ofSeconds(apiTimeoutSeconds))
+                .GET()
+                .build();
+
+        // 응답 본문을 문자열로 모으지 않고 스트림에서 바로 집계 (시간 제한/동시 호출 제한/회로 차단 적용, 응답이 늦으면 헤지 요청)
+        return resilienceRegistry.get(ResilienceConfig.KMA_FORECAST).executeIdempotentAsync(
+                () -> {
+                    CompletableFuture<HttpResponse<InputStream>> exchange =
+                            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+                    CompletableFuture<List<WeatherCardResponse>> cards = exchange.thenApply(response -> {
+                        try (InputStream body = response.body()) {
+                            if (response.statusCode() != 200) {
+                                throw new IllegalStateException("기상청 API 응답 오류: status=" + response.statusCode() + ", " + key);
+                            }
+                            return List.copyOf(summarizeForecast(body, koreaToday));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("기상청 예보 응답 처리 실패: " + key, e);
+                        }
+                    });
+                    // 시간 초과/헤지 패배로 취소되면 HTTP 교환도 중단 (집계 중이면 본문 스트림을 닫아 중단)
+                    cards.whenComplete((result, error) -> {
+                        if (cards.isCancelled()) {
+                            exchange.cancel(true);
+                            exchange.thenAccept(response -> closeQuietly(response.body()));
+                        }
+                    });
+                    return cards;
+                },
+                null);
+    }
 
-            summaries.putIfAbsent(date, new DailySimpleSummary(date));
-            summaries.get(date).update(category, value);
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("취소된 예보 응답 본문 닫기 실패: {}", e.getMessage());
         }
+    }
+
+    /**
+     * 예보 응답(JSON)을 토큰 단위로 읽으며 날짜별 날씨 카드로 집계합니다. (오늘부터 4일 후까지)
+     * 트리를 만들지 않고, 날짜는 yyyyMMdd 문자열 비교로 거르며, 강수형태(PTY)/하늘상태(SKY) 값만 읽습니다.
+     */
+    List<WeatherCardResponse> summarizeForecast(InputStream body, LocalDate koreaToday) throws IOException {
+        String firstDate = koreaToday.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String lastDate = koreaToday.plusDays(4).format(DateTimeFormatter.BASIC_ISO_DATE);
+        Map<String, DailySimpleSummary> summaries = new TreeMap<>();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            // response.body.items.item 배열로 이동 (오류 응답이면 빈 결과)
+            if (!moveToItemArray(parser)) {
+                return new ArrayList<>();
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String date = null;
+                String category = null;
+                String value = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "fcstDate" -> date = parser.getValueAsString();
+                        case "category" -> category = parser.getValueAsString();
+                        // category가 먼저 나온 경우 PTY/SKY가 아니면 값을 읽지 않음
+                        case "fcstValue" -> value = category == null || "PTY".equals(category) || "SKY".equals(category)
+                                ? parser.getValueAsString()
+                                : null;
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (date == null || date.compareTo(firstDate) < 0 || date.compareTo(lastDate) > 0) {
+                    continue;
+                }
 
-        List<WeatherCardResponse> result = new ArrayList<>();
-        summaries.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(e -> result.add(new WeatherCardResponse(e.getKey(), e.getValue().classifyWeather())));
+                DailySimpleSummary summary = summaries.computeIfAbsent(date, DailySimpleSummary::new);
+                if (category != null && value != null) {
+                    summary.update(category, value);
+                }
+            }
+        }
 
+        List<WeatherCardResponse> result = new ArrayList<>(summaries.size());
+        summaries.forEach((date, summary) -> result.add(new WeatherCardResponse(date, summary.classifyWeather())));
         return result;
     }
 
+    private boolean moveToItemArray(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME && "item".equals(parser.getCurrentName())) {
+                return parser.nextToken() == JsonToken.START_ARRAY;
+            }
+        }
+        return false;
+    }
+
     /**
      * 현재 시간에 맞는 가장 최신의 기상청 발표시각을 계산합니다.
      * 기상청 발표시각: 02, 05, 08, 11, 14, 17, 20, 23시
      * 각 발표시각으로부터 +10시간 후에 해당 발표시각의 예보 데이터를 사용할 수 있습니다.
      */
-    private LocalDateTime calculateBaseDateTime(LocalDateTime currentTime) {
+    private static LocalDateTime calculateBaseDateTime(LocalDateTime currentTime) {
         LocalDate currentDate = currentTime.toLocalDate();
         LocalTime currentTimeOfDay = currentTime.toLocalTime();
         
@@ -134,15 +304,23 @@ public class WeatherCardService {
         return baseDateTime;
     }
 
-    private String fetchJson(String urlStr) throws Exception {
-        HttpURLConnection conn = (HttpURLConnection) new URL(urlStr).openConnection();
-        conn.setRequestMethod("GET");
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-            StringBuilder sb = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) sb.append(line);
-            return sb.toString();
+    /**
+     * calculateBaseDateTime 결과가 바뀌는 다음 시점 (발표시각 + 10시간 또는 자정)
+     */
+    static LocalDateTime nextBaseSwitch(LocalDateTime currentTime) {
+        LocalDateTime currentBase = calculateBaseDateTime(currentTime);
+        LocalDate today = currentTime.toLocalDate();
+        List<LocalDateTime> candidates = new ArrayList<>();
+        for (int baseHour : WEATHER_API_BASE_HOURS) {
+            candidates.add(today.atTime(baseHour, 0).plusHours(WEATHER_API_AVAILABLE_AFTER_HOURS));
         }
+        candidates.add(today.plusDays(1).atStartOfDay());
+        return candidates.stream()
+                .filter(candidate -> candidate.isAfter(currentTime))
+                .sorted()
+                .filter(candidate -> !calculateBaseDateTime(candidate).equals(currentBase))
+                .findFirst()
+                .orElse(today.plusDays(1).atStartOfDay());
     }
 
     static class DailySimpleSummary {
@@ -203,4 +381,10 @@ public class WeatherCardService {
             return weather;
         }
     }
-} 
\ No newline at end of file
+
+    private record GridCell(int nx, int ny) {
+    }
+
+    private record ForecastKey(int nx, int ny, String baseDate, String baseTime) {
+    }
+}
@@ -20,12 +20,17 @@ public class GeoToGridConverter {
         }
     }
 
-    public static Grid convert(double lat, double lon) {
-        double DEGRAD = Math.PI / 180.0;
-        double re = RE / GRID;
+    // 투영 상수는 입력 좌표와 무관하므로 클래스 로딩 시 한 번만 계산
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double OLON_RAD = OLON * DEGRAD;
+    private static final double SN;
+    private static final double SF;
+    private static final double RO;
+    private static final double RE_GRID = RE / GRID;
+
+    static {
         double slat1 = SLAT1 * DEGRAD;
         double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
         double olat = OLAT * DEGRAD;
 
         double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
@@ -33,18 +38,24 @@ public class GeoToGridConverter {
         double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
         sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
         double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-        ro = re * sf / Math.pow(ro, sn);
+        ro = RE_GRID * sf / Math.pow(ro, sn);
+
+        SN = sn;
+        SF = sf;
+        RO = ro;
+    }
 
+    public static Grid convert(double lat, double lon) {
         double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
-        ra = re * sf / Math.pow(ra, sn);
-        double theta = lon * DEGRAD - olon;
+        ra = RE_GRID * SF / Math.pow(ra, SN);
+        double theta = lon * DEGRAD - OLON_RAD;
         if (theta > Math.PI) theta -= 2.0 * Math.PI;
         if (theta < -Math.PI) theta += 2.0 * Math.PI;
-        theta *= sn;
+        theta *= SN;
 
         int x = (int)(ra * Math.sin(theta) + XO + 0.5);
-        int y = (int)(ro - ra * Math.cos(theta) + YO + 0.5);
+        int y = (int)(RO - ra * Math.cos(theta) + YO + 0.5);
 
         return new Grid(x, y);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.couple.schedule_meeting.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LocalPlaceScorerTopKTest {
+
+    @Test
+    void keepsHighestScoresInDescendingOrder() {
+        LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(3);
+        float[] scores = {0.4f, 0.9f, 0.1f, 0.7f, 0.5f, 0.8f};
+        for (int i = 0; i < scores.length; i++) {
+            top.offer(i, scores[i]);
+        }
+
+        assertEquals(3, top.size());
+        assertArrayEquals(new int[]{1, 5, 3}, top.sortedIndices());
+    }
+
+    @Test
+    void returnsAllOfferedWhenBelowCapacity() {
+        LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(5);
+        top.offer(7, 0.2f);
+        top.offer(3, 0.6f);
+
+        assertEquals(2, top.size());
+        assertArrayEquals(new int[]{3, 7}, top.sortedIndices());
+    }
+
+    @Test
+    void ignoresScoresNotAboveCurrentMinimumWhenFull() {
+        LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(2);
+        top.offer(0, 0.5f);
+        top.offer(1, 0.6f);
+        top.offer(2, 0.5f);
+        top.offer(3, 0.1f);
+
+        assertArrayEquals(new int[]{1, 0}, top.sortedIndices());
+    }
+
+    @Test
+    void nonPositiveCapacityKeepsSingleBest() {
+        LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(0);
+        top.offer(0, 0.3f);
+        top.offer(1, 0.9f);
+        top.offer(2, 0.6f);
+
+        assertArrayEquals(new int[]{1}, top.sortedIndices());
+    }
+
+    @Test
+    void mergeOfChunksMatchesSingleScan() {
+        Random random = new Random(42);
+        float[] scores = new float[10_000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextFloat();
+        }
+
+        LocalPlaceScorer.TopK single = new LocalPlaceScorer.TopK(5);
+        for (int i = 0; i < scores.length; i++) {
+            single.offer(i, scores[i]);
+        }
+        int chunkSize = 1_024;
+        LocalPlaceScorer.TopK merged = IntStream.range(0, (scores.length + chunkSize - 1) / chunkSize)
+                .mapToObj(chunk -> {
+                    LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(5);
+                    for (int i = chunk * chunkSize; i < Math.min(scores.length, (chunk + 1) * chunkSize); i++) {
+                        top.offer(i, scores[i]);
+                    }
+                    return top;
+                })
+                .reduce(LocalPlaceScorer.TopK::merge)
+                .orElseThrow();
+
+        int[] expected = IntStream.range(0, scores.length).boxed()
+                .sorted((a, b) -> Float.compare(scores[b], scores[a]))
+                .limit(5)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertArrayEquals(expected, single.sortedIndices());
+        assertArrayEquals(expected, merged.sortedIndices());
+    }
+
+    @Test
+    void mergeWithEmptyHeapKeepsEntries() {
+        LocalPlaceScorer.TopK top = new LocalPlaceScorer.TopK(3);
+        top.offer(4, 0.4f);
+        top.offer(2, 0.8f);
+
+        LocalPlaceScorer.TopK merged = new LocalPlaceScorer.TopK(3).merge(top);
+
+        assertArrayEquals(new int[]{2, 4}, merged.sortedIndices());
+        assertArrayEquals(new int[]{2, 4}, top.merge(new LocalPlaceScorer.TopK(3)).sortedIndices());
+    }
+}
@@ -1,14 +1,24 @@
 package com.couple.user_couple.config;
 
+import com.couple.common.http.WebClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.reactive.function.client.WebClient;
 
+/**
+ * 내부 서비스 호출용 WebClient (커넥션 풀 설정은 http.client.internal.*)
+ */
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClientFactory webClientFactory(WebClient.Builder webClientBuilder, Environment environment) {
+        return new WebClientFactory(webClientBuilder, environment);
     }
-} 
\ No newline at end of file
+
+    @Bean
+    public WebClient webClient(WebClientFactory webClientFactory) {
+        return webClientFactory.create("internal");
+    }
+}
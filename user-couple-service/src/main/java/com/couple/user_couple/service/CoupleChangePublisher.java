@@ -0,0 +1,36 @@
+package com.couple.user_couple.service;
+
+import com.couple.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 커플 정보(시작일, 구성원, 구성원 이름/생일) 변경을 트랜잭션 커밋 후 couple:changed 채널로 알림
+ * schedule-meeting-service의 달력 캐시와 커플 취향 스냅샷이 이 메시지로 무효화됩니다. (발행 실패는 무시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoupleChangePublisher {
+
+    private static final String COUPLE_CHANGED_CHANNEL = "couple:changed";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void publish(UUID coupleId) {
+        if (coupleId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.convertAndSend(COUPLE_CHANGED_CHANNEL, coupleId.toString());
+            } catch (Exception e) {
+                log.warn("커플 변경 알림 발행 실패: coupleId={}, error={}", coupleId, e.getMessage());
+            }
+        });
+    }
+}
@@ -39,6 +39,7 @@ public class CoupleService {
         private final UserRepository userRepository;
         private final StringRedisTemplate redisTemplate;
         private final WebClient webClient;
+        private final CoupleChangePublisher coupleChangePublisher;
 
         private static final String MATCH_CODE_PREFIX = "couple:match:";
         private static final int MATCH_CODE_EXPIRE_SECONDS = 300; // 5분
@@ -152,6 +153,8 @@ public class CoupleService {
                 Map<String, String> response = new HashMap<>();
                 response.put("coupleId", savedCouple.getId().toString());
 
+                coupleChangePublisher.publish(savedCouple.getId());
+
                 log.info("커플 매칭 완료: {}", savedCouple.getId());
                 return response;
         }
@@ -182,6 +185,8 @@ public class CoupleService {
                         userRepository.save(partner);
                 }
 
+                coupleChangePublisher.publish(couple.getId());
+
                 log.info("커플 파기 완료: {}", couple.getId());
         }
 
@@ -206,6 +211,7 @@ public class CoupleService {
                 couple.setMonth(request.getDate().getMonthValue());
                 couple.setDate(request.getDate().getDayOfMonth());
                 coupleRepository.save(couple);
+                coupleChangePublisher.publish(couple.getId());
 
                 log.info("커플 날짜 설정 완료: {}", request.getDate());
         }
@@ -20,6 +20,7 @@ import org.springframework.http.HttpHeaders;
 
 import java.util.UUID;
 import java.util.Map;
+import java.util.Objects;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -34,6 +35,7 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final CoupleRepository coupleRepository;
     private final WebClient webClient;
+    private final CoupleChangePublisher coupleChangePublisher;
 
     public UserResponse signup(UserSignupRequest request) {
         log.info("회원가입 요청: {}", request.getEmail());
@@ -194,11 +196,16 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
+        boolean nameChanged = !Objects.equals(user.getName(), request.getName());
         user.setName(request.getName());
         user.setFcmCode(request.getFcmCode());
         user.setSendTime(request.getSendTime().toString());
 
         User updatedUser = userRepository.save(user);
+        if (nameChanged) {
+            // 달력의 생일 일정 제목 등 커플 정보에 포함된 이름 갱신
+            coupleChangePublisher.publish(updatedUser.getCoupleId());
+        }
         return convertToResponse(updatedUser);
     }
 
@@ -213,6 +220,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
         userRepository.delete(user);
+        coupleChangePublisher.publish(user.getCoupleId());
     }
 
     public UserResponse updateUserScore(UUID userId, Long newScore) {